@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# 모드별 시작 성능 측정: 첫 요청까지 걸린 시간(time-to-first-request)과 첫 요청 직후 RSS
+#
+#   scripts/startup/benchmark.sh            # 모드마다 5번 실행해 중앙값 출력
+#   RUNS=10 PORT=18080 scripts/startup/benchmark.sh
+#
+# 모드
+#   default            : bootJar 그대로 (java -jar)
+#   fast-startup       : fast-startup 프로필 + 풀어 놓은 클래스패스
+#   fast-startup-cds   : + AppCDS 아카이브
+#   fast-startup-aot   : + Spring AOT (AOT 빌드로 만든 CDS 아카이브 사용)
+# 결과는 build/startup/benchmark.csv에도 남김
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+URL="http://localhost:$PORT/articles"
+MAIN_CLASS="me.songsoyeon.springbootdeveloper.SpringBootDeveloperApplication"
+RESULT="$ROOT/build/startup/benchmark.csv"
+
+export JWT_SECRET_KEY="${JWT_SECRET_KEY:-startup-benchmark-secret}"
+export GOOGLE_CLIENT_ID="${GOOGLE_CLIENT_ID:-startup-benchmark}"
+export GOOGLE_CLIENT_SECRET="${GOOGLE_CLIENT_SECRET:-startup-benchmark}"
+
+"$ROOT/scripts/startup/prepare.sh" jvm
+"$ROOT/scripts/startup/prepare.sh" aot
+JVM="$ROOT/build/startup/jvm"
+AOT="$ROOT/build/startup/aot"
+
+now_ms() {
+  date +%s%3N
+}
+
+# 실행 -> 첫 요청이 200을 받을 때까지 대기 -> RSS 측정 -> 종료. "ttfr_ms rss_mb" 출력
+measure() {
+  local workdir
+  workdir="$(mktemp -d)"
+  local start
+  start="$(now_ms)"
+  (cd "$workdir" && exec "$@" --server.port="$PORT" > "$workdir/app.log" 2>&1) &
+  local pid=$!
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" == "200" ]]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited before serving a request, see $workdir/app.log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  local ttfr=$(( $(now_ms) - start ))
+  local rss_kb
+  rss_kb="$(ps -o rss= -p "$pid" | tr -d ' ')"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  rm -rf "$workdir"
+  echo "$ttfr $(( rss_kb / 1024 ))"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+run_mode() {
+  local name="$1"
+  shift
+  local ttfrs=() rsses=()
+  for ((i = 1; i <= RUNS; i++)); do
+    read -r ttfr rss < <(measure "$@")
+    ttfrs+=("$ttfr")
+    rsses+=("$rss")
+  done
+  local ttfr_median rss_median
+  ttfr_median="$(printf '%s\n' "${ttfrs[@]}" | median)"
+  rss_median="$(printf '%s\n' "${rsses[@]}" | median)"
+  printf '%-20s %10s ms %8s MB\n' "$name" "$ttfr_median" "$rss_median"
+  echo "$name,$ttfr_median,$rss_median" >> "$RESULT"
+}
+
+echo "mode,time_to_first_request_ms,rss_mb" > "$RESULT"
+printf '%-20s %13s %11s\n' "mode" "first request" "RSS"
+run_mode default java -jar "$JVM/app.jar"
+run_mode fast-startup java -Dspring.profiles.active=fast-startup -cp "$(cat "$JVM/classpath")" "$MAIN_CLASS"
+run_mode fast-startup-cds "$JVM/run.sh"
+run_mode fast-startup-aot "$AOT/run.sh"
@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# 시작 시간 최적화 모드 준비: bootJar 빌드 -> 클래스패스 풀기 -> 학습 실행으로 AppCDS 아카이브 생성
+#
+#   scripts/startup/prepare.sh          # JVM 모드 (build/startup/jvm)
+#   scripts/startup/prepare.sh aot      # Spring AOT 모드 (build/startup/aot, 실행 시 -Dspring.aot.enabled=true)
+#
+# 실행 방법은 build/startup/<mode>/run.sh 에 남김
+# CDS는 디렉터리나 중첩 jar가 아닌 일반 jar 클래스패스에서만 동작하므로 bootJar를 풀어 lib/*.jar로 실행함
+set -euo pipefail
+
+MODE="${1:-jvm}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT="$ROOT/build/startup/$MODE"
+PROFILE="${STARTUP_PROFILE:-fast-startup}"
+MAIN_CLASS="me.songsoyeon.springbootdeveloper.SpringBootDeveloperApplication"
+
+# 학습/벤치마크 실행에 필요한 값. 실제 배포에서는 환경 변수로 주입
+export JWT_SECRET_KEY="${JWT_SECRET_KEY:-startup-benchmark-secret}"
+export GOOGLE_CLIENT_ID="${GOOGLE_CLIENT_ID:-startup-benchmark}"
+export GOOGLE_CLIENT_SECRET="${GOOGLE_CLIENT_SECRET:-startup-benchmark}"
+
+cd "$ROOT"
+AOT_FLAGS=()
+if [[ "$MODE" == "aot" ]]; then
+  ./gradlew -q bootJar -Paot
+  AOT_FLAGS=(-Dspring.aot.enabled=true)
+else
+  ./gradlew -q bootJar
+fi
+JAR="$(ls build/libs/*.jar | grep -v -- '-plain' | head -n 1)"
+
+rm -rf "$OUT"
+mkdir -p "$OUT/lib" "$OUT/unpacked"
+cp "$JAR" "$OUT/app.jar"
+unzip -q "$JAR" -d "$OUT/unpacked"
+cp "$OUT"/unpacked/BOOT-INF/lib/*.jar "$OUT/lib/"
+jar cf "$OUT/lib/application.jar" -C "$OUT/unpacked/BOOT-INF/classes" .
+rm -rf "$OUT/unpacked"
+
+# 학습 실행과 실제 실행의 클래스패스 순서가 같아야 아카이브를 쓸 수 있으므로 파일로 고정
+ls "$OUT"/lib/*.jar | sort | paste -sd: - > "$OUT/classpath"
+
+# 컨텍스트 refresh가 끝나면 바로 종료하면서 그때까지 로드한 클래스를 아카이브로 저장
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" \
+  -Dspring.context.exit=onRefresh \
+  -Dspring.profiles.active="$PROFILE" \
+  "${AOT_FLAGS[@]}" \
+  -cp "$(cat "$OUT/classpath")" "$MAIN_CLASS" > "$OUT/training.log" 2>&1
+
+cat > "$OUT/run.sh" <<RUN
+#!/usr/bin/env bash
+exec java -XX:SharedArchiveFile="$OUT/application.jsa" -Xshare:auto \\
+  -Dspring.profiles.active="$PROFILE" ${AOT_FLAGS[*]} \\
+  -cp "\$(cat "$OUT/classpath")" $MAIN_CLASS "\$@"
+RUN
+chmod +x "$OUT/run.sh"
+
+echo "prepared $MODE mode in $OUT ($(du -h "$OUT/application.jsa" | cut -f1) CDS archive)"
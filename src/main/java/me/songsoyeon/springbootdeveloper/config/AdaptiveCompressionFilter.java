@@ -0,0 +1,409 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import me.songsoyeon.springbootdeveloper.util.HttpCompression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 동적 응답을 gzip으로 압축하는 필터
+// 본문을 min-size까지 버퍼에 모은 뒤 압축 여부를 정하고, 이후는 스트리밍으로 씀 (큰 응답도 통째로 메모리에 두지 않음)
+// 압축 레벨은 최근 CPU 사용률로 정함. 바쁠 때는 낮은 레벨로, 아주 바쁘면 압축하지 않음
+// 이미 Content-Encoding이 있는 응답(미리 압축한 정적 리소스, ArticleResponseCache의 gzip 본문)과 SSE는 그대로 통과
+public class AdaptiveCompressionFilter extends OncePerRequestFilter {
+
+    // 이 요청 속성이 TRUE면 flushBuffer()를 min-size를 기다리지 않고 바로 내보냄 (렌더링하며 flush하는 화면)
+    // 다른 응답은 ResponseEntity 처리 끝에 부르는 flushBuffer()로 작은 본문이 압축되지 않도록 계속 모음
+    public static final String STREAMING_ATTRIBUTE = AdaptiveCompressionFilter.class.getName() + ".STREAMING";
+
+    private static final long CPU_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ResponseCompressionProperties properties;
+    private final CompressionReport report;
+    private final List<MediaType> mimeTypes;
+    private final java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    private volatile long cpuSampledAt = System.nanoTime() - CPU_SAMPLE_INTERVAL_NANOS;
+    private volatile double cpuLoad = -1;
+
+    public AdaptiveCompressionFilter(ResponseCompressionProperties properties, CompressionReport report) {
+        this.properties = properties;
+        this.report = report;
+        this.mimeTypes = properties.getMimeTypes().stream().map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!HttpCompression.acceptsGzip(request) || "HEAD".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompressingResponseWrapper wrapped = new CompressingResponseWrapper(request, response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapped);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new FinishOnComplete(request, wrapped));
+            } else if (completed || wrapped.started()) {
+                // 예외가 났는데 아직 아무것도 쓰지 않았으면 버퍼를 버리고 오류 응답은 컨테이너에 맡김
+                finish(request, wrapped);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, CompressingResponseWrapper wrapped) throws IOException {
+        wrapped.finish();
+        // 시작 시 워밍업 요청은 실제 트래픽의 압축 통계에 넣지 않음
+        if (WarmupRunner.isWarmupRequest(request)) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+        report.record(route, wrapped.bytesIn, wrapped.bytesOut, wrapped.outcome);
+    }
+
+    // 압축 레벨. 압축하지 않아야 하면 -1
+    int currentLevel() {
+        double load = cpuLoad();
+        if (load >= properties.getMaxLoad()) {
+            return -1;
+        }
+        return load >= properties.getHighLoad() ? properties.getHighLoadLevel() : properties.getLevel();
+    }
+
+    // 전체 시스템 CPU 사용률(0~1). 측정할 수 없으면 0으로 봄. 1초에 한 번만 다시 읽음
+    private double cpuLoad() {
+        long now = System.nanoTime();
+        if (now - cpuSampledAt >= CPU_SAMPLE_INTERVAL_NANOS) {
+            cpuSampledAt = now;
+            cpuLoad = os instanceof com.sun.management.OperatingSystemMXBean sunOs ? sunOs.getCpuLoad() : -1;
+        }
+        return Math.max(0, cpuLoad);
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.isCompatibleWith(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class FinishOnComplete implements AsyncListener {
+        private final HttpServletRequest request;
+        private final CompressingResponseWrapper wrapped;
+
+        FinishOnComplete(HttpServletRequest request, CompressingResponseWrapper wrapped) {
+            this.request = request;
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            finish(request, wrapped);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    // min-size까지는 버퍼에 모으고, 그 뒤(또는 응답이 끝날 때) 압축할지 정해 실제 스트림으로 씀
+    final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        // 정해진 뒤의 출력 대상 (gzip 또는 원본 스트림). 정하기 전에는 null
+        private OutputStream target;
+        private GZIPOutputStream gzip;
+        private long contentLength = -1;
+        private long bytesIn;
+        private long bytesOut;
+        private CompressionReport.Outcome outcome = CompressionReport.Outcome.NOT_COMPRESSED;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        // 논블로킹 쓰기로 바뀌었으면 flush는 컨테이너가 처리하므로 끝낼 때 직접 하지 않음
+        private boolean nonBlocking;
+
+        private final HttpServletRequest request;
+
+        CompressingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        boolean started() {
+            return target != null;
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target == null) {
+                // 본문이 없으면(리다이렉트, sendError 등) 원본 스트림을 열지 않음. 오류 페이지가 getWriter()를 쓸 수 있도록
+                if (buffer.size() == 0) {
+                    if (contentLength >= 0) {
+                        super.setContentLengthLong(contentLength);
+                    }
+                    return;
+                }
+                decide(false);
+            }
+            if (gzip != null) {
+                gzip.finish();
+            }
+            if (!nonBlocking) {
+                target.flush();
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+            bytesIn += length;
+            if (target != null) {
+                target.write(bytes, offset, length);
+                return;
+            }
+            buffer.write(bytes, offset, length);
+            if (buffer.size() >= properties.getMinSize().toBytes()) {
+                decide(true);
+            }
+        }
+
+        private void flush(boolean explicit) throws IOException {
+            if (target == null) {
+                // SSE처럼 바로 보내야 하는 응답은 기다리지 않고 그대로 통과
+                if (isEventStream()) {
+                    decide(false);
+                } else if (explicit && Boolean.TRUE.equals(request.getAttribute(STREAMING_ATTRIBUTE))) {
+                    // 스트리밍 화면은 앞부분부터 압축해 바로 보냄
+                    decide(true);
+                } else {
+                    return;
+                }
+            }
+            target.flush();
+        }
+
+        private void decide(boolean large) throws IOException {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            boolean candidate = getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && !isEventStream()
+                    && getStatus() != HttpServletResponse.SC_NO_CONTENT
+                    && getStatus() != HttpServletResponse.SC_PARTIAL_CONTENT
+                    && isCompressible(getContentType());
+            int level = candidate && large ? currentLevel() : -1;
+            if (candidate) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+
+            OutputStream raw = new CountingOutputStream(response.getOutputStream());
+            if (level >= 0) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                gzip = new LeveledGzipOutputStream(raw, level);
+                target = gzip;
+                outcome = CompressionReport.Outcome.COMPRESSED;
+            } else {
+                if (contentLength >= 0) {
+                    response.setContentLengthLong(contentLength);
+                }
+                target = raw;
+                if (candidate && large) {
+                    outcome = CompressionReport.Outcome.SKIPPED_FOR_LOAD;
+                }
+            }
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        private boolean isEventStream() {
+            String contentType = getContentType();
+            return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        }
+
+        // 압축 여부가 정해질 때까지 Content-Length를 보류 (압축하면 길이가 달라짐)
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (target == null) {
+                contentLength = len;
+            } else if (gzip == null) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            flush(true);
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (buffer != null) {
+                buffer.reset();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (buffer != null) {
+                buffer.reset();
+                contentLength = -1;
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        CompressingResponseWrapper.this.write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        CompressingResponseWrapper.this.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        CompressingResponseWrapper.this.flush(false);
+                    }
+
+                    // 정하기 전에는 버퍼에 쓰므로 항상 쓸 수 있음. 정한 뒤에는 실제 스트림의 상태를 따름
+                    @Override
+                    public boolean isReady() {
+                        if (target == null) {
+                            return true;
+                        }
+                        try {
+                            return getResponse().getOutputStream().isReady();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+
+                    // 논블로킹 쓰기로 바뀌기 전에 모아 둔 바이트를 압축하지 않고 내보낸 뒤 실제 스트림에 리스너를 넘김
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        try {
+                            if (target == null) {
+                                decide(false);
+                            }
+                            nonBlocking = true;
+                            getResponse().getOutputStream().setWriteListener(writeListener);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        private final class CountingOutputStream extends OutputStream {
+            private final OutputStream delegate;
+
+            CountingOutputStream(OutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                bytesOut++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                bytesOut += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+        }
+    }
+
+    // 레벨을 지정할 수 있고, flush 시 지금까지의 압축 결과를 내보내는(SYNC_FLUSH) gzip 스트림
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 8192, true);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("article.body-store")
+@Component
+@Setter
+@Getter
+public class ArticleBodyStoreProperties {
+    // 끄면 GET /api/articles/{id}/content 요청마다 DB에서 읽어 씀
+    private boolean enabled = false;
+    // direct(기본): 다이렉트 버퍼, mapped: directory 아래 파일을 메모리 매핑 (MaxDirectMemorySize에 잡히지 않음)
+    private String type = "direct";
+    private String directory = "./data/article-bodies";
+    // 세그먼트를 차례로 채우고, 다 차면 가장 오래된 세그먼트를 비워 다시 씀. 전체 용량은 segment-size * segments
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+    private int segments = 8;
+    // 이보다 큰 본문은 보관하지 않음
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
@@ -0,0 +1,24 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// 블로그 글 변경 이벤트 로그(ArticleEventLog) 설정
+@ConfigurationProperties("article.event-log")
+@Component
+@Setter
+@Getter
+public class ArticleEventLogProperties {
+    // 켜면 directory를 이 프로세스가 독점하므로 기본은 꺼 둠
+    private boolean enabled = false;
+    private String directory = "./data/article-events";
+    // 세그먼트 파일 하나의 크기. 미리 이 크기로 만들어 메모리 매핑함
+    private DataSize segmentSize = DataSize.ofMegabytes(8);
+    // 보관할 세그먼트 수. 넘으면 가장 오래된 세그먼트부터 삭제
+    private int retainedSegments = 8;
+    // true면 레코드마다 디스크에 강제로 기록(fsync). false면 OS에 맡기고 롤오버/종료 시에만 기록
+    private boolean forceOnAppend = false;
+}
@@ -0,0 +1,22 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 블로그 글 변경 SSE 스트림(/api/articles/changes) 설정
+@ConfigurationProperties("article.feed")
+@Component
+@Setter
+@Getter
+public class ArticleFeedProperties {
+    // 재연결한 클라이언트에게 다시 보내줄 수 있도록 보관하는 최근 변경 수
+    private int historySize = 1024;
+    // 구독자마다 아직 보내지 못한 변경을 쌓아두는 최대 수. 넘치면 그 구독자의 연결을 끊음
+    private int subscriberBufferSize = 256;
+    // 프록시가 연결을 끊지 않도록 보내는 keep-alive 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
@@ -0,0 +1,17 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties("article.list-view")
+@Component
+@Setter
+@Getter
+public class ArticleListViewProperties {
+    // true면 /articles 화면을 렌더링하면서 글을 page-size개씩 id 순으로 조회하고, 페이지마다 응답을 flush
+    // false면 전체 목록을 먼저 읽은 뒤 렌더링
+    private boolean streaming = true;
+    private int pageSize = 100;
+}
@@ -0,0 +1,28 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 블로그 글 id 조회(BlogService.findById, findAllById) 경로 설정
+@ConfigurationProperties("article.read")
+@Component
+@Setter
+@Getter
+public class ArticleReadProperties {
+    // 같은 글을 동시에 조회하는 요청이 앞선 조회 결과를 기다리는 최대 시간
+    private Duration singleFlightTimeout = Duration.ofSeconds(2);
+    // 서로 다른 글 조회를 모아 IN 쿼리 한 번으로 처리할지 여부
+    private boolean batchEnabled = true;
+    // 첫 조회가 들어온 뒤 다른 조회를 모으는 시간
+    private Duration batchWindow = Duration.ofMillis(2);
+    // 한 번의 IN 쿼리에 담는 최대 id 수. 다 차면 window를 기다리지 않고 바로 조회
+    private int batchMaxSize = 100;
+    // 묶음 조회를 실행하는 스레드 수
+    private int batchThreads = 4;
+    // GET /api/articles?ids= 한 번에 요청할 수 있는 최대 id 수
+    private int multiGetMaxIds = 100;
+}
@@ -0,0 +1,23 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("article.response-cache")
+@Component
+@Setter
+@Getter
+public class ArticleResponseCacheProperties {
+    // 끄면 매 요청마다 직렬화만 하고 저장하지 않음
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    // 캐시에 담긴 본문(gzip 포함) 바이트 합계 상한
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+    // Accept-Encoding: gzip 요청에 미리 압축해 둔 본문으로 응답
+    private boolean gzip = true;
+    // 이보다 작은 본문은 압축하지 않음
+    private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+}
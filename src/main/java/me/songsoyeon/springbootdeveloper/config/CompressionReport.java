@@ -0,0 +1,61 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 경로(매핑 패턴)별 응답 압축 통계. /actuator/compression 으로 조회
+@Component
+public class CompressionReport {
+
+    private final ConcurrentHashMap<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, long bytesIn, long bytesOut, Outcome outcome) {
+        RouteStats stats = routes.computeIfAbsent(route, key -> new RouteStats());
+        stats.responses.increment();
+        stats.bytesIn.add(bytesIn);
+        stats.bytesOut.add(bytesOut);
+        switch (outcome) {
+            case COMPRESSED -> stats.compressed.increment();
+            case SKIPPED_FOR_LOAD -> stats.skippedForLoad.increment();
+            case NOT_COMPRESSED -> {
+            }
+        }
+    }
+
+    // 아낀 바이트가 많은 경로부터
+    public List<Route> routes() {
+        return routes.entrySet().stream()
+                .map(entry -> entry.getValue().toRoute(entry.getKey()))
+                .sorted(Comparator.comparingLong(Route::bytesSaved).reversed())
+                .toList();
+    }
+
+    public enum Outcome {
+        COMPRESSED,
+        NOT_COMPRESSED,  // 작거나 압축 대상 타입이 아님
+        SKIPPED_FOR_LOAD // CPU 사용률이 높아 건너뜀
+    }
+
+    public record Route(String route, long responses, long compressed, long skippedForLoad,
+                        long bytesIn, long bytesOut, long bytesSaved, double ratio) {
+    }
+
+    private static class RouteStats {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder compressed = new LongAdder();
+        private final LongAdder skippedForLoad = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+
+        Route toRoute(String route) {
+            long in = bytesIn.sum();
+            long out = bytesOut.sum();
+            return new Route(route, responses.sum(), compressed.sum(), skippedForLoad.sum(),
+                    in, out, in - out, in == 0 ? 1 : (double) out / in);
+        }
+    }
+}
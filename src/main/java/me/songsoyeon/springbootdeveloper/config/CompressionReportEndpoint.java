@@ -0,0 +1,33 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// GET /actuator/compression : 경로별 압축 전/후 바이트와 아낀 바이트
+@RequiredArgsConstructor
+@Endpoint(id = "compression")
+@Component
+public class CompressionReportEndpoint {
+
+    private final CompressionReport compressionReport;
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        List<CompressionReport.Route> routes = compressionReport.routes();
+        long bytesIn = routes.stream().mapToLong(CompressionReport.Route::bytesIn).sum();
+        long bytesOut = routes.stream().mapToLong(CompressionReport.Route::bytesOut).sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("bytesIn", bytesIn);
+        report.put("bytesOut", bytesOut);
+        report.put("bytesSaved", bytesIn - bytesOut);
+        report.put("routes", routes);
+        return report;
+    }
+}
@@ -0,0 +1,35 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 성능 테스트용 대량 데이터 생성 설정 (datagen 프로필에서만 실행)
+@ConfigurationProperties("datagen")
+@Component
+@Setter
+@Getter
+public class DataGeneratorProperties {
+    private int users = 10_000;
+    private int articles = 1_000_000;
+    // 0이면 CPU 코어 수만큼 병렬로 삽입
+    private int threads = 0;
+    private int batchSize = 1000;
+    // 같은 seed면 같은 데이터 생성
+    private long seed = 42;
+    // 한국어 글의 비율. 나머지는 영어 글
+    private double koreanRatio = 0.7;
+    // 본문 길이는 로그 정규 분포를 따름 (중앙값, 표준편차). article.content 컬럼 길이(255)를 넘지 않게 자름
+    private int medianContentLength = 120;
+    private double contentLengthSigma = 0.6;
+    private int maxContentLength = 255;
+    // 유저마다 리프레시 토큰 생성
+    private boolean refreshTokens = true;
+    // 생성한 리프레시 토큰을 "userId\temail\ttoken" 형식으로 저장할 파일 (부하 테스트 스크립트용)
+    private String tokenOutput;
+    // 이미 articles개 이상의 글이 있으면 생성하지 않음
+    private boolean skipIfPresent = true;
+    // 생성이 끝나면 애플리케이션 종료
+    private boolean exit = false;
+}
@@ -0,0 +1,33 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.service.DataGenerator;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// datagen 프로필로 실행하면 시작 시 성능 테스트용 데이터 생성
+// 예) ./gradlew bootRun --args='--spring.profiles.active=datagen --datagen.articles=1000000'
+@RequiredArgsConstructor
+@Profile("datagen")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataGenerator dataGenerator;
+    private final DataGeneratorProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dataGenerator.generate();
+        if (properties.isExit()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
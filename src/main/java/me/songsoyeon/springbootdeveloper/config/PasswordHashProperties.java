@@ -0,0 +1,17 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties("password-hash")
+@Component
+@Setter
+@Getter
+public class PasswordHashProperties {
+    // 해싱 스레드 수. 0이면 CPU 코어 수
+    private int threads = 0;
+    // 대기열 크기. 가득 차면 바로 503으로 거절
+    private int queueCapacity = 32;
+}
@@ -0,0 +1,177 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
+import me.songsoyeon.springbootdeveloper.util.TokenBucket;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 경로별 토큰 버킷으로 요청 수를 제한하는 필터. 초과하면 429와 Retry-After 반환
+// 버킷 상태는 CAS로만 갱신하므로 전역 락이 없음
+// USER, TOKEN 규칙도 IP 버킷을 함께 적용하고, IP 버킷을 먼저 확인해 거절은 토큰 검증 없이 끝냄
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final TokenProvider tokenProvider;
+    private final List<RouteLimiter> limiters;
+    // 비활성화되어 있으면 null
+    private final ScheduledExecutorService sweeper;
+
+    public RateLimitFilter(RateLimitProperties properties, TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+        this.limiters = properties.isEnabled()
+                ? properties.getRoutes().stream().map(RouteLimiter::new).toList()
+                : List.of();
+        if (limiters.isEmpty()) {
+            this.sweeper = null;
+            return;
+        }
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = properties.getIdleSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::evictIdleBuckets, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteLimiter limiter = findLimiter(request);
+        if (limiter != null) {
+            long now = System.nanoTime();
+            String ip = "ip:" + request.getRemoteAddr();
+            long waitNanos = limiter.acquireIp(ip, now);
+            if (waitNanos <= 0 && limiter.route.getKey() != RateLimitProperties.KeyType.IP) {
+                String key = resolveKey(limiter.route.getKey(), request);
+                if (key != null) {
+                    waitNanos = limiter.acquireKey(key, now);
+                }
+            }
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    // 현재 버킷 수 (테스트, 모니터링용)
+    int bucketCount() {
+        return limiters.stream().mapToInt(limiter -> limiter.ipBuckets.size() + limiter.keyBuckets.size()).sum();
+    }
+
+    private RouteLimiter findLimiter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RouteLimiter limiter : limiters) {
+            if (limiter.matches(request.getMethod(), path)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    // 유저/토큰 키. 인증되지 않았거나 쿠키가 유효한 토큰이 아니면 null (IP 버킷만 적용)
+    // 검증하지 않은 쿠키 값을 키로 쓰면 요청마다 값을 바꿔 새 버킷을 받을 수 있으므로 반드시 서명과 만료를 확인
+    private String resolveKey(RateLimitProperties.KeyType keyType, HttpServletRequest request) {
+        switch (keyType) {
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null && authentication.isAuthenticated()
+                        && !(authentication instanceof AnonymousAuthenticationToken)) {
+                    return "user:" + authentication.getName();
+                }
+            }
+            case TOKEN -> {
+                Cookie cookie = WebUtils.getCookie(request, OAuth2SuccessHandler.REFRESH_TOKEN_COOKIE_NAME);
+                if (cookie != null && !cookie.getValue().isEmpty() && tokenProvider.validToken(cookie.getValue())) {
+                    // JWT의 마지막 부분은 토큰 전체에 대한 HMAC이므로 그대로 다이제스트로 사용
+                    String token = cookie.getValue();
+                    return "token:" + token.substring(token.lastIndexOf('.') + 1);
+                }
+            }
+            case IP -> {
+            }
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+    // 가득 찬 버킷은 지워도 새로 만든 버킷과 같으므로 정리
+    private void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (RouteLimiter limiter : limiters) {
+            limiter.ipBuckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+            limiter.keyBuckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        }
+    }
+
+    private static class RouteLimiter {
+        private final RateLimitProperties.Route route;
+        private final long ipCapacity;
+        private final double ipRefillPerSecond;
+        private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+        private final Map<String, TokenBucket> keyBuckets = new ConcurrentHashMap<>();
+
+        RouteLimiter(RateLimitProperties.Route route) {
+            this.route = route;
+            // IP 규칙이거나 IP 한도를 따로 정하지 않으면 규칙의 한도를 그대로 씀
+            boolean separateIpLimit = route.getKey() != RateLimitProperties.KeyType.IP && route.getIpCapacity() > 0;
+            this.ipCapacity = separateIpLimit ? route.getIpCapacity() : route.getCapacity();
+            this.ipRefillPerSecond = separateIpLimit && route.getIpRefillPerSecond() > 0
+                    ? route.getIpRefillPerSecond()
+                    : route.getRefillPerSecond();
+        }
+
+        boolean matches(String method, String path) {
+            return (route.getMethods().isEmpty() || route.getMethods().contains(method))
+                    && PATH_MATCHER.match(route.getPattern(), path);
+        }
+
+        long acquireIp(String ip, long now) {
+            return ipBuckets.computeIfAbsent(ip, k -> new TokenBucket(ipCapacity, ipRefillPerSecond, now))
+                    .tryAcquire(now);
+        }
+
+        long acquireKey(String key, long now) {
+            return keyBuckets.computeIfAbsent(key, k -> new TokenBucket(route.getCapacity(), route.getRefillPerSecond(), now))
+                    .tryAcquire(now);
+        }
+    }
+}
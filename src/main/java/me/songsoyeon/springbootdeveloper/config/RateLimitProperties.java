@@ -0,0 +1,43 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties("rate-limit")
+@Component
+@Setter
+@Getter
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 이 시간마다 가득 찬(쓰이지 않는) 버킷을 정리
+    private Duration idleSweepInterval = Duration.ofMinutes(1);
+    // 위에서부터 처음 일치하는 경로 규칙 하나만 적용
+    private List<Route> routes = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Route {
+        // Ant 스타일 경로 패턴
+        private String pattern;
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+        private KeyType key = KeyType.IP;
+        private long capacity = 10;
+        private double refillPerSecond = 1;
+        // USER, TOKEN 규칙에 함께 적용하는 IP별 한도. 0이면 capacity, refill-per-second와 같음
+        private long ipCapacity = 0;
+        private double ipRefillPerSecond = 0;
+    }
+
+    public enum KeyType {
+        IP,     // 클라이언트 IP
+        USER,   // 인증된 유저 + IP (인증되지 않았으면 IP만)
+        TOKEN   // 검증된 refresh_token 쿠키의 서명 부분 + IP (쿠키가 없거나 유효하지 않으면 IP만)
+    }
+}
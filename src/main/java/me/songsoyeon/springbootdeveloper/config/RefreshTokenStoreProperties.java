@@ -0,0 +1,25 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties("refresh-token.store")
+@Component
+@Setter
+@Getter
+public class RefreshTokenStoreProperties {
+    // jpa(기본) 또는 memory
+    private String type = "jpa";
+    // memory 저장소의 스냅샷 파일 경로. 비어 있으면 재시작 시 토큰이 사라짐
+    private String snapshotPath;
+    // 스냅샷 파일이 이 크기를 넘으면 살아 있는 항목만 남도록 다시 씀
+    private DataSize snapshotCompactSize = DataSize.ofMegabytes(16);
+    // 타이밍 휠의 한 칸 크기와 칸 수
+    private Duration tickDuration = Duration.ofSeconds(1);
+    private int ticksPerWheel = 512;
+}
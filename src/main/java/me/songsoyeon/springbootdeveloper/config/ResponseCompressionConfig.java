@@ -0,0 +1,26 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@ConditionalOnProperty(value = "response-compression.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Configuration
+public class ResponseCompressionConfig {
+
+    private final ResponseCompressionProperties properties;
+    private final CompressionReport compressionReport;
+
+    // Server-Timing 필터 바로 안쪽, 시큐리티 필터 체인보다 바깥에서 모든 응답을 압축
+    @Bean
+    public FilterRegistrationBean<AdaptiveCompressionFilter> adaptiveCompressionFilter() {
+        FilterRegistrationBean<AdaptiveCompressionFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveCompressionFilter(properties, compressionReport));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
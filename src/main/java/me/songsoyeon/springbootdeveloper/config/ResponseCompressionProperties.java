@@ -0,0 +1,30 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 동적 응답 gzip 압축(AdaptiveCompressionFilter) 설정. 정적 리소스는 빌드 때 미리 압축한 파일을 씀
+@ConfigurationProperties("response-compression")
+@Component
+@Setter
+@Getter
+public class ResponseCompressionProperties {
+    private boolean enabled = true;
+    // 이보다 작은 응답은 압축하지 않음
+    private DataSize minSize = DataSize.ofKilobytes(1);
+    private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json", "text/html", "text/plain", "text/css", "text/javascript",
+            "application/javascript", "application/xml", "image/svg+xml"));
+    // 평소 압축 레벨 (1~9)
+    private int level = 6;
+    // CPU 사용률(0~1)이 high-load 이상이면 high-load-level로 낮추고, max-load 이상이면 압축하지 않음
+    private double highLoad = 0.75;
+    private int highLoadLevel = 1;
+    private double maxLoad = 0.9;
+}
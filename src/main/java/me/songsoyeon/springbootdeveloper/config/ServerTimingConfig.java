@@ -0,0 +1,40 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// server-timing.enabled=true일 때만 등록. 꺼져 있으면 남는 비용은 계측 지점의 ThreadLocal 조회뿐
+@ConditionalOnProperty(value = "server-timing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final ServerTimingProperties properties;
+
+    // 시큐리티 필터 체인보다 앞에 두어 JWT 검증 시간도 포함
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 부트 기본 Jackson 컨버터 대신 등록됨 (같은 ObjectMapper 사용)
+    @Bean
+    public TimedJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingInterceptor());
+    }
+}
@@ -0,0 +1,184 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 요청마다 ServerTiming을 붙이고, 응답 헤더(Server-Timing)와 느린 요청 로그로 단계별 시간을 내보냄
+// 스프링 시큐리티 필터보다 먼저 실행돼야 JWT 검증 시간까지 잡힘
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(ServerTimingProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.begin();
+        HoldingResponseWrapper wrapped = null;
+        if (properties.isHeader()) {
+            if (response.getBufferSize() < properties.getBufferSize().toBytes()) {
+                response.setBufferSize((int) properties.getBufferSize().toBytes());
+            }
+            wrapped = new HoldingResponseWrapper(request, response, timing);
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+            completed = true;
+        } finally {
+            ServerTiming.end();
+            if (wrapped != null) {
+                wrapped.release(timing.toHeaderValue(), completed);
+            }
+            logIfSlow(request, response, timing);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, ServerTiming timing) {
+        if (timing.elapsedNanos() < slowThresholdNanos) {
+            return;
+        }
+        double sampleRate = properties.getSlowSampleRate();
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        log.warn("slow request {} {} status={} {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), timing);
+    }
+
+    // 응답 중간의 flush를 요청이 끝날 때까지 미뤄 커밋을 늦춤. 그래야 JSON 직렬화, 뷰 렌더링까지 잰 뒤 헤더를 쓸 수 있음
+    // SSE나 스트리밍 화면처럼 흘려보내야 하는 응답은 미루지 않음
+    static class HoldingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final ServerTiming timing;
+        private boolean holding = true;
+        private boolean flushPending;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        HoldingResponseWrapper(HttpServletRequest request, HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.request = request;
+            this.timing = timing;
+        }
+
+        // 헤더를 쓰고 미뤄 둔 flush를 실행. 이후 flush는 그대로 전달
+        void release(String headerValue, boolean flush) throws IOException {
+            holding = false;
+            if (!isCommitted()) {
+                setHeader(HEADER, headerValue);
+            }
+            if (flush && flushPending) {
+                flushPending = false;
+                getResponse().flushBuffer();
+            }
+        }
+
+        private boolean hold() {
+            if (!holding || isEventStream()) {
+                return false;
+            }
+            // 압축 필터와 같은 기준으로 스트리밍 화면의 flush는 통과. 커밋 전이면 지금까지 잰 시간으로 헤더를 씀
+            if (Boolean.TRUE.equals(request.getAttribute(AdaptiveCompressionFilter.STREAMING_ATTRIBUTE))) {
+                if (!isCommitted()) {
+                    setHeader(HEADER, timing.toHeaderValue());
+                }
+                return false;
+            }
+            flushPending = true;
+            return true;
+        }
+
+        private boolean isEventStream() {
+            String contentType = getContentType();
+            return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!hold()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        if (!hold()) {
+                            delegate.flush();
+                        }
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(super.getWriter()) {
+                    @Override
+                    public void flush() {
+                        if (!hold()) {
+                            super.flush();
+                        }
+                    }
+                };
+            }
+            return writer;
+        }
+    }
+}
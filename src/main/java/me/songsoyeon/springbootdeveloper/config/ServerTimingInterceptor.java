@@ -0,0 +1,29 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+// 컨트롤러가 뷰를 반환한 뒤(postHandle)부터 렌더링이 끝날 때(afterCompletion)까지를 뷰 렌더링 시간으로 기록
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    private static final String VIEW_STARTED_AT = ServerTimingInterceptor.class.getName() + ".VIEW_STARTED_AT";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null) {
+            request.setAttribute(VIEW_STARTED_AT, ServerTiming.start());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(VIEW_STARTED_AT) instanceof Long startedAt) {
+            ServerTiming.stop(ServerTiming.Phase.VIEW, startedAt);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties("server-timing")
+@Component
+@Setter
+@Getter
+public class ServerTimingProperties {
+    // 꺼져 있으면 필터, 인터셉터, 타이밍 Jackson 컨버터를 등록하지 않음
+    private boolean enabled = false;
+    // 응답에 Server-Timing 헤더 추가 (끄면 느린 요청 로그만 남김)
+    private boolean header = true;
+    // 헤더는 본문보다 먼저 나가야 하므로 본문을 이 크기까지 버퍼링. 넘는 응답에는 헤더가 빠질 수 있음
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+    // 이보다 오래 걸린 요청은 단계별 시간과 함께 로그로 남김
+    private Duration slowThreshold = Duration.ofMillis(500);
+    // 느린 요청 중 로그로 남길 비율 (0~1)
+    private double slowSampleRate = 1.0;
+}
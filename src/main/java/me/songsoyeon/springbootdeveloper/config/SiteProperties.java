@@ -0,0 +1,24 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@ConfigurationProperties("site")
+@Component
+@Setter
+@Getter
+public class SiteProperties {
+    // 사이트맵과 피드의 절대 URL 앞부분 (끝의 / 없이)
+    private String baseUrl = "http://localhost:8080";
+    private String title = "My Blog";
+    // 사이트맵 파일 하나에 담는 최대 URL 수. 넘으면 /sitemap.xml은 /sitemap-{n}.xml 목록(sitemapindex)이 됨
+    private int sitemapSegmentSize = 50_000;
+    // /feed.xml에 담는 최근 수정 글 수
+    private int feedEntries = 50;
+    // 글이 바뀐 뒤 바뀐 세그먼트와 피드를 다시 만들기까지 기다리는 시간 (연속된 변경을 한 번에 반영)
+    private Duration rebuildDelay = Duration.ofSeconds(1);
+}
@@ -0,0 +1,22 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 시작 시 스냅샷 불러오기/내보내기 (예: --snapshot.export-path=articles.snap.gz --snapshot.exit=true)
+@ConfigurationProperties("snapshot")
+@Component
+@Setter
+@Getter
+public class SnapshotProperties {
+    // 이 파일에서 글과 유저를 불러옴. 내보내기보다 먼저 실행
+    private String importPath;
+    // 불러오기 전에 기존 글과 유저를 지울지 여부. false면 테이블이 비어 있어야 함
+    private boolean replace = false;
+    // 글과 유저를 이 파일로 내보냄. .gz로 끝나면 gzip 압축
+    private String exportPath;
+    // 작업이 끝나면 애플리케이션 종료
+    private boolean exit = false;
+}
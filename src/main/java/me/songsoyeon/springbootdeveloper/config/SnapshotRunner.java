@@ -0,0 +1,35 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.service.SnapshotService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+// snapshot.import-path, snapshot.export-path가 있으면 시작 시 스냅샷 작업 실행
+@RequiredArgsConstructor
+@Component
+public class SnapshotRunner implements ApplicationRunner {
+
+    private final SnapshotProperties properties;
+    private final SnapshotService snapshotService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (StringUtils.hasText(properties.getImportPath())) {
+            snapshotService.restore(Path.of(properties.getImportPath()), properties.isReplace());
+        }
+        if (StringUtils.hasText(properties.getExportPath())) {
+            snapshotService.export(Path.of(properties.getExportPath()));
+        }
+        if (properties.isExit()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 글 화면과 목록 화면을 정적 HTML로 내보내기 (예: --static-export.enabled=true --static-export.exit=true)
+@ConfigurationProperties("static-export")
+@Component
+@Setter
+@Getter
+public class StaticExportProperties {
+    // 시작 시 내보내고, 이후 글이 바뀌면 바뀐 페이지만 다시 렌더링
+    private boolean enabled = false;
+    private String directory = "./data/static-site";
+    // 렌더링 스레드 수. 0이면 CPU 코어 수
+    private int threads = 0;
+    // 목록 페이지 하나에 담는 글 수
+    private int listPageSize = 100;
+    // 내보내지 않는 경로(글 등록/수정 화면, API)로 가는 링크 앞에 붙일 애플리케이션 주소. 비어 있으면 그대로 둠
+    private String appBaseUrl = "";
+    // 글이 바뀐 뒤 다시 렌더링하기까지 기다리는 시간 (연속된 변경을 한 번에 반영)
+    private Duration rebuildDelay = Duration.ofSeconds(2);
+    // 처음 내보내기가 끝나면 애플리케이션 종료
+    private boolean exit = false;
+}
@@ -0,0 +1,30 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.service.StaticSiteExporter;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// static-export.enabled=true면 시작 시 정적 사이트를 내보냄. 이후 글 변경은 StaticSiteExporter가 이어서 반영
+@RequiredArgsConstructor
+@Component
+public class StaticExportRunner implements ApplicationRunner {
+
+    private final StaticExportProperties properties;
+    private final StaticSiteExporter staticSiteExporter;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        staticSiteExporter.export();
+        if (properties.isExit()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+// 정적 리소스 Cache-Control
+// 내용 해시가 붙은 경로(/js/article-<md5>.js)는 내용이 바뀌면 경로도 바뀌므로 1년 동안 immutable로 캐시
+// 해시 없는 경로는 배포 후 바로 바뀌어야 하므로 매번 재검증(Last-Modified)
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean fingerprinted = FINGERPRINTED.matcher(request.getRequestURI()).find();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, fingerprinted ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// JSON 응답 직렬화 시간을 ServerTiming에 기록하는 Jackson 컨버터
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long startedAt = ServerTiming.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.JSON, startedAt);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package me.songsoyeon.springbootdeveloper.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.service.EventStreamTicketService;
+import me.songsoyeon.springbootdeveloper.service.TokenRevocationService;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,8 +20,14 @@ import java.io.IOException;
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final EventStreamTicketService eventStreamTicketService;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
+    // 브라우저 EventSource는 요청 헤더를 붙일 수 없으므로 SSE 경로에 한해 ?ticket= 으로 일회용 티켓을 받음
+    // 액세스 토큰 자체는 URL(접근 로그, 시큐리티 DEBUG 로그)에 남지 않도록 쿼리 파라미터로 받지 않음
+    private final static String EVENT_STREAM_PATH = "/api/articles/changes";
+    private final static String TICKET_PARAMETER = "ticket";
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -26,17 +36,30 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
         //요청 헤더의 Authorization 키의 값 조회
         String authorizationHeader = request.getHeader(HEADER_AUTHORIZATION);
-        // 가져온 값에서 접두사 제거
+        // 가져온 값에서 접두사 제거. 헤더가 없으면 SSE 경로의 티켓을 액세스 토큰으로 바꿈
         String token = getAccessToken(authorizationHeader);
-        // 가져온 토큰이 유효한지 확인하고, 유효하면 인증 정보 설정
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        if (token == null && isEventStream(request)) {
+            token = eventStreamTicketService.redeem(request.getParameter(TICKET_PARAMETER));
+        }
+        // 가져온 토큰이 유효하고 폐기되지 않았는지 확인하고, 유효하면 인증 정보 설정
+        long startedAt = ServerTiming.start();
+        // 파싱은 한 번만 하고 폐기 확인과 인증 정보 생성에는 꺼낸 클레임을 씀
+        Claims claims = tokenProvider.parseClaims(token);
+        if (claims != null
+                && !tokenRevocationService.isRevoked(tokenProvider.getUserId(claims), claims.getIssuedAt())) {
+            Authentication authentication = tokenProvider.getAuthentication(claims, token);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
+        ServerTiming.stop(ServerTiming.Phase.JWT, startedAt);
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean isEventStream(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && EVENT_STREAM_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
     private String getAccessToken(String authorizationHeader) {
         if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
             return authorizationHeader.substring(TOKEN_PREFIX.length());
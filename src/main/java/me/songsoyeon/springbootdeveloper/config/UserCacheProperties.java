@@ -0,0 +1,16 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties("user-cache")
+@Component
+@Setter
+@Getter
+public class UserCacheProperties {
+    private boolean enabled = true;
+    // 캐시에 담을 최대 유저 수
+    private int maxSize = 10_000;
+}
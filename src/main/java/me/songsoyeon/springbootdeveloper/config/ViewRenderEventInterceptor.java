@@ -0,0 +1,35 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.controller.ViewRenderEvent;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+// 컨트롤러가 뷰를 반환한 뒤(postHandle)부터 렌더링이 끝날 때(afterCompletion)까지를 JFR ViewRenderEvent로 기록
+public class ViewRenderEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT = ViewRenderEventInterceptor.class.getName() + ".EVENT";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null) {
+            return;
+        }
+        ViewRenderEvent event = new ViewRenderEvent(modelAndView.getViewName(), request.getRequestURI());
+        // 레코딩 중이 아니면 요청 속성도 남기지 않음
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT, event);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(EVENT) instanceof ViewRenderEvent event) {
+            event.commit();
+        }
+    }
+}
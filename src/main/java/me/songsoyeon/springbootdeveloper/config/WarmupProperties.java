@@ -0,0 +1,31 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 트래픽을 받기 전 JIT 워밍업(WarmupRunner) 설정
+@ConfigurationProperties("warmup")
+@Component
+@Setter
+@Getter
+public class WarmupProperties {
+    private boolean enabled = true;
+    // 단계마다 반복 횟수. C2 컴파일 임계치(약 1만 회 호출)를 넘기도록 요청 하나가 여러 메서드를 여러 번 지나게 됨
+    private int iterations = 2000;
+    // 워밍업 전체의 최대 시간. 넘으면 남은 단계를 건너뛰고 트래픽을 받음
+    private Duration maxDuration = Duration.ofSeconds(30);
+    // 목록/상세 템플릿을 합성 모델로 렌더링 (요청을 보내지 않으므로 통계에 섞이지 않음)
+    private boolean templatesEnabled = true;
+    // 자기 자신에게 HTTP 요청을 보내 필터, 컨트롤러, 템플릿까지 워밍업 (GET 요청만 보냄)
+    // 요청 수천~수만 개가 캐시, 메트릭, JFR에 섞이고 readiness도 늦어지므로 기본은 꺼 둠
+    private boolean httpEnabled = false;
+    private int httpConcurrency = 4;
+    // 상세 조회에 쓸 실제 글 수 (읽기만 함)
+    private int sampleArticles = 20;
+    // 글이 이보다 많으면 전체 목록(/api/articles, /articles)은 호출하지 않음
+    private long listMaxArticles = 1000;
+}
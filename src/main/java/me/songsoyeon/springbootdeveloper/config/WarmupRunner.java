@@ -0,0 +1,278 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.dto.ArticleListViewResponse;
+import me.songsoyeon.springbootdeveloper.dto.ArticleResponse;
+import me.songsoyeon.springbootdeveloper.dto.ArticleViewResponse;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.service.TokenRevocationService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 트래픽을 받기 전에 자주 쓰이는 경로를 반복 실행해 JIT 컴파일을 끝내 둠
+// 1) JWT 생성/검증 2) 글 JSON 직렬화 3) 목록/상세 템플릿 렌더링 (요청 없이 합성 모델로)
+// 4) 선택: 자기 자신에게 GET 요청 (필터, 컨트롤러까지. warmup.http-enabled)
+// ApplicationRunner가 모두 끝나야 readiness가 ACCEPTING_TRAFFIC이 되므로 그동안 /actuator/health/readiness는 OUT_OF_SERVICE
+@Slf4j
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    // 실제 유저와 겹치지 않는 워밍업 전용 토큰 주체
+    private static final long WARMUP_USER_ID = 0L;
+    private static final String WARMUP_EMAIL = "warmup@localhost";
+    // 워밍업 HTTP 요청에 붙이는 헤더. 루프백에서 온 요청만 워밍업으로 봄
+    static final String WARMUP_HEADER = "X-Warmup";
+    private static final String ARTICLE_TEMPLATE = "article";
+    private static final String LIST_TEMPLATE = "articleList";
+
+    private final WarmupProperties properties;
+    private final TokenProvider tokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final ObjectMapper objectMapper;
+    private final BlogRepository blogRepository;
+    private final ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getMaxDuration().toNanos();
+        String token = tokenProvider.makeToken(
+                new Date(System.currentTimeMillis() + OAuth2SuccessHandler.ACCESS_TOKEN_DURATION.toMillis()),
+                WARMUP_USER_ID, WARMUP_EMAIL);
+
+        int jwt = warmUpJwt(token, deadline);
+        int json = warmUpJson(deadline);
+        int templates = properties.isTemplatesEnabled() ? warmUpTemplates(deadline) : 0;
+        int http = properties.isHttpEnabled() ? warmUpHttp(token, deadline) : 0;
+
+        log.info("warm-up finished in {}ms: jwt {}, json {}, templates {}, http {} iterations{}",
+                (System.nanoTime() - startedAt) / 1_000_000, jwt, json, templates, http,
+                System.nanoTime() > deadline ? " (stopped at max-duration)" : "");
+    }
+
+    // TokenAuthenticationFilter가 요청마다 하는 일과 토큰 발급
+    private int warmUpJwt(String token, long deadline) {
+        Date expiry = new Date(System.currentTimeMillis() + OAuth2SuccessHandler.ACCESS_TOKEN_DURATION.toMillis());
+        int done = 0;
+        for (; done < properties.getIterations() && System.nanoTime() < deadline; done++) {
+            tokenProvider.makeToken(expiry, WARMUP_USER_ID, WARMUP_EMAIL);
+            Claims claims = tokenProvider.parseClaims(token);
+            if (claims != null && !tokenRevocationService.isRevoked(tokenProvider.getUserId(claims), claims.getIssuedAt())) {
+                tokenProvider.getAuthentication(claims, token);
+            }
+        }
+        return done;
+    }
+
+    // DB 상태와 관계없이 합성 데이터로 목록/상세 응답 직렬화
+    private int warmUpJson(long deadline) {
+        List<Article> articles = syntheticArticles();
+        int done = 0;
+        try {
+            for (; done < properties.getIterations() && System.nanoTime() < deadline; done++) {
+                List<ArticleResponse> list = articles.stream().map(ArticleResponse::new).toList();
+                objectMapper.writeValueAsBytes(list);
+                objectMapper.writeValueAsBytes(new ArticleViewResponse(articles.get(done % articles.size())));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("warm-up json phase failed", e);
+        }
+        return done;
+    }
+
+    // 목록/상세 화면 템플릿을 합성 모델로 렌더링해 버림. 루프백 요청 없이 Thymeleaf 파싱, SpEL, 렌더링 경로를 데움
+    // 요청이 없으므로 StaticSiteExporter처럼 별도 엔진에서 컨텍스트 경로를 비운 링크 빌더로 렌더링
+    int warmUpTemplates(long deadline) {
+        List<Article> articles = syntheticArticles();
+        List<ArticleListViewResponse> list = articles.stream().map(ArticleListViewResponse::new).toList();
+        SpringTemplateEngine engine = templateEngine();
+
+        int done = 0;
+        try {
+            for (; done < properties.getIterations() && System.nanoTime() < deadline; done++) {
+                engine.process(LIST_TEMPLATE, new Context(Locale.getDefault(),
+                        Map.of("articles", list, "nextPage", "/articles/page/2")), Writer.nullWriter());
+                engine.process(ARTICLE_TEMPLATE, new Context(Locale.getDefault(),
+                        Map.of("article", new ArticleViewResponse(articles.get(done % articles.size())))),
+                        Writer.nullWriter());
+            }
+        } catch (RuntimeException e) {
+            log.warn("warm-up template phase failed", e);
+        }
+        return done;
+    }
+
+    // 실제 글은 GET으로 읽기만 함. 내장 서버가 없으면(MOCK 테스트 등) 건너뜀
+    private int warmUpHttp(String token, long deadline) {
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            return 0;
+        }
+        String base = "http://localhost:" + webContext.getWebServer().getPort();
+        List<HttpRequest> requests = requests(base, token);
+        if (requests.isEmpty()) {
+            return 0;
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getHttpConcurrency()));
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        int total = properties.getIterations() * requests.size();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < properties.getHttpConcurrency(); t++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < total && System.nanoTime() < deadline;
+                         i = next.getAndIncrement()) {
+                        HttpRequest request = requests.get(i % requests.size());
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200 && failures.getAndIncrement() == 0) {
+                                log.warn("warm-up request {} returned {}", request.uri(), response.statusCode());
+                            }
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                            log.warn("warm-up request {} failed, stopping http warm-up", request.uri(), e);
+                            return;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (Exception e) {
+            log.warn("http warm-up failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return Math.min(next.get(), total) / requests.size();
+    }
+
+    private List<HttpRequest> requests(String base, String token) {
+        List<Long> ids = blogRepository.findAll(PageRequest.of(0, properties.getSampleArticles(), Sort.by("id")))
+                .map(Article::getId)
+                .toList();
+        boolean listable = blogRepository.count() <= properties.getListMaxArticles();
+
+        List<HttpRequest> requests = new ArrayList<>();
+        if (listable) {
+            requests.add(get(base + "/api/articles", token));
+            requests.add(get(base + "/articles", null));
+        }
+        if (!ids.isEmpty()) {
+            String joined = String.join(",", ids.stream().map(String::valueOf).toList());
+            requests.add(get(base + "/api/articles?ids=" + joined, token));
+        }
+        for (Long id : ids) {
+            requests.add(get(base + "/api/articles/" + id, token));
+            requests.add(get(base + "/articles/" + id, null));
+        }
+        return requests;
+    }
+
+    private static List<Article> syntheticArticles() {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            articles.add(Article.builder()
+                    .author(WARMUP_EMAIL)
+                    .title("워밍업 제목 " + i)
+                    .content("워밍업 본문입니다. warm-up content ".repeat(1 + i % 5))
+                    .build());
+        }
+        return articles;
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        // 기본 빌더는 웹 컨텍스트가 아니면 @{/...}에서 예외를 던지므로 컨텍스트 경로를 비움
+        engine.setLinkBuilder(new StandardLinkBuilder() {
+            @Override
+            protected String computeContextPath(IExpressionContext context, String base,
+                                                Map<String, Object> parameters) {
+                return "";
+            }
+        });
+        engine.setEnableSpringELCompiler(true);
+        return engine;
+    }
+
+    private static HttpRequest get(String uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(Duration.ofSeconds(5))
+                .header(WARMUP_HEADER, "true")
+                .GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    // 통계(CompressionReport 등)에서 뺄 워밍업 요청인지. 외부 클라이언트가 헤더로 통계를 가리지 못하게 루프백만 인정
+    static boolean isWarmupRequest(HttpServletRequest request) {
+        if (!"true".equals(request.getHeader(WARMUP_HEADER))) {
+            return false;
+        }
+        String address = request.getRemoteAddr();
+        return "127.0.0.1".equals(address) || "::1".equals(address) || "0:0:0:0:0:0:0:1".equals(address);
+    }
+}
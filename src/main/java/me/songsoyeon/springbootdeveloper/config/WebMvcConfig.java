@@ -0,0 +1,75 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private static final List<String> STATIC_DIRECTORIES = List.of("js", "css", "img");
+
+    // spring.jackson.* 설정이 적용된 빌더 (요청할 때마다 새 인스턴스)
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 뷰 렌더링 JFR 이벤트
+        registry.addInterceptor(new ViewRenderEventInterceptor());
+        registry.addInterceptor(new StaticResourceCacheInterceptor())
+                .addPathPatterns(STATIC_DIRECTORIES.stream().map(directory -> "/" + directory + "/**").toList());
+    }
+
+    // 정적 리소스: 템플릿의 @{/js/article.js}는 내용 해시가 붙은 /js/article-<md5>.js로 바뀌어 나가고(ResourceUrlEncodingFilter),
+    // 요청 시 빌드 때 만든 .br/.gz 파일 중 Accept-Encoding에 맞는 것을 씀
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : STATIC_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    // Accept: application/cbor, application/x-jackson-smile 요청에 바이너리로 응답
+    // JSON 컨버터보다 뒤에 두므로 Accept가 없거나 */* 이면 지금처럼 JSON
+    // 스프링 기본 CBOR/Smile 컨버터는 부트의 Jackson 설정을 따르지 않으므로 같은 설정으로 만든 것으로 바꿈
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryMapper(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryMapper(new SmileFactory())));
+    }
+
+    private ObjectMapper binaryMapper(JsonFactory factory) {
+        return objectMapperBuilder.getObject()
+                .factory(factory)
+                .build();
+    }
+}
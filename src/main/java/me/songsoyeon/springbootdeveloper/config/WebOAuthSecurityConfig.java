@@ -1,14 +1,20 @@
 package me.songsoyeon.springbootdeveloper.config;
 
 import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtProperties;
 import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestCookieCodec;
 import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2CookieProperties;
 import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
 import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2UserCustomService;
-import me.songsoyeon.springbootdeveloper.repository.RefreshTokenRepository;
+import me.songsoyeon.springbootdeveloper.repository.RefreshTokenStore;
+import me.songsoyeon.springbootdeveloper.service.EventStreamTicketService;
+import me.songsoyeon.springbootdeveloper.service.TokenRevocationService;
 import me.songsoyeon.springbootdeveloper.service.UserService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -28,19 +34,31 @@ public class WebOAuthSecurityConfig {
 
     private final OAuth2UserCustomService oAuth2UserCustomService;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final EventStreamTicketService eventStreamTicketService;
+    private final JwtProperties jwtProperties;
+    private final OAuth2CookieProperties oAuth2CookieProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final Environment environment;
 
     // 스프링 시큐리티 기능 비활성화
     @Bean
     public WebSecurityCustomizer configure() {
-        return (web) -> web.ignoring()
-                .requestMatchers(toH2Console())
-                .requestMatchers(
-                        new AntPathRequestMatcher("/img/**"),
-                        new AntPathRequestMatcher("/css/**"),
-                        new AntPathRequestMatcher("/js/**")
-                );
+        // H2 콘솔을 끄면(fast-startup 프로필 등) H2 콘솔 매처가 참조할 설정 빈이 없으므로 켜져 있을 때만 등록
+        boolean h2ConsoleEnabled = environment.getProperty("spring.h2.console.enabled", Boolean.class, false);
+        return (web) -> {
+            if (h2ConsoleEnabled) {
+                web.ignoring().requestMatchers(toH2Console());
+            }
+            web.ignoring()
+                    .requestMatchers(
+                            new AntPathRequestMatcher("/img/**"),
+                            new AntPathRequestMatcher("/css/**"),
+                            new AntPathRequestMatcher("/js/**")
+                    );
+        };
     }
 
     @Bean
@@ -54,12 +72,20 @@ public class WebOAuthSecurityConfig {
                 .sessionManagement(management -> management.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // 헤더를 확인할 커스텀 필터 추가
                 .addFilterBefore(tokenAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+                // 인증 정보를 키로 쓸 수 있도록 토큰 인증 필터 다음에 요청 수 제한 필터 추가
+                .addFilterAfter(rateLimitFilter(), TokenAuthenticationFilter.class)
                 // 토큰 재발급 URL은 인증 없이 접근 가능하도록 설정. 나머지 API URL은 인증 필요
+                // 액추에이터는 프로브용 health만 공개하고 나머지(압축 리포트 등)는 인증 필요
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(new AntPathRequestMatcher("/api/token"))
                         .permitAll()
                         .requestMatchers(new AntPathRequestMatcher("/api/**"))
                         .authenticated()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/health"),
+                                new AntPathRequestMatcher("/actuator/health/**"))
+                        .permitAll()
+                        .requestMatchers(new AntPathRequestMatcher("/actuator/**"))
+                        .authenticated()
                         .anyRequest().permitAll())
                 .oauth2Login(oauth2 -> oauth2
                         .loginPage("/login")
@@ -71,33 +97,53 @@ public class WebOAuthSecurityConfig {
                         // 인증 성공 시 실행할 핸들러
                         .successHandler(oAuth2SuccessHandler())
                 )
-                //   /api로 시작하는 url인 경우 401 상태 코드를 반환하도록 예외 처리
+                //   /api, /actuator로 시작하는 url인 경우 로그인 페이지로 보내지 않고 401 상태 코드를 반환하도록 예외 처리
                 .exceptionHandling(exceptionHandling -> exceptionHandling
                         .defaultAuthenticationEntryPointFor(
                                 new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
                                 new AntPathRequestMatcher("/api/**")
+                        )
+                        .defaultAuthenticationEntryPointFor(
+                                new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                                new AntPathRequestMatcher("/actuator/**")
                         ))
                 .build();
     }
 
     @Bean
     public OAuth2SuccessHandler oAuth2SuccessHandler() {
-        return new OAuth2SuccessHandler(tokenProvider, refreshTokenRepository, oAuth2AuthorizationRequestBasedOnCookieRepository(), userService);
+        return new OAuth2SuccessHandler(tokenProvider, refreshTokenStore, oAuth2AuthorizationRequestBasedOnCookieRepository(), userService);
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, tokenRevocationService, eventStreamTicketService);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimitProperties, tokenProvider);
     }
 
     @Bean
     public OAuth2AuthorizationRequestBasedOnCookieRepository oAuth2AuthorizationRequestBasedOnCookieRepository() {
-        return new OAuth2AuthorizationRequestBasedOnCookieRepository();
+        return new OAuth2AuthorizationRequestBasedOnCookieRepository(oAuth2AuthorizationRequestCookieCodec());
+    }
+
+    // 인가 요청 쿠키 코덱 (서명 + 선택적 압축)
+    @Bean
+    public OAuth2AuthorizationRequestCookieCodec oAuth2AuthorizationRequestCookieCodec() {
+        String secret = oAuth2CookieProperties.getSecretKey() != null
+                ? oAuth2CookieProperties.getSecretKey()
+                : jwtProperties.getSecretKey();
+        return new OAuth2AuthorizationRequestCookieCodec(
+                OAuth2AuthorizationRequestCookieCodec.deriveKey(secret), oAuth2CookieProperties.isCompress());
     }
 
     // 패스워드 인코더로 사용할 빈 등록
+    // UserService가 이 빈을 주입받으므로 설정 클래스 인스턴스 없이 만들 수 있도록 static으로 선언(순환 참조 방지)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+    public static BCryptPasswordEncoder bCryptPasswordEncoder() {
         return new BCryptPasswordEncoder();
     }
 }
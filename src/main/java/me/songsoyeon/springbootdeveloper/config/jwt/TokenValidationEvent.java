@@ -0,0 +1,68 @@
+package me.songsoyeon.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JFR 이벤트: 액세스 토큰 검증(TokenProvider.validToken) 한 번의 결과와 소요 시간
+@Name(TokenValidationEvent.NAME)
+@Label("Token Validation")
+@Category({"Spring Boot Developer", "Security"})
+@Description("JWT signature and expiry check")
+@StackTrace(false)
+public class TokenValidationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "springbootdeveloper.TokenValidation";
+
+    public enum Result {
+        VALID,
+        MISSING,
+        EXPIRED,
+        BAD_SIGNATURE,
+        MALFORMED,
+        UNSUPPORTED,
+        INVALID
+    }
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Result")
+    String result;
+
+    void valid() {
+        this.valid = true;
+        this.result = Result.VALID.name();
+    }
+
+    void invalid(Exception e) {
+        this.valid = false;
+        this.result = resultOf(e).name();
+    }
+
+    static Result resultOf(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return Result.EXPIRED;
+        }
+        if (e instanceof SignatureException) {
+            return Result.BAD_SIGNATURE;
+        }
+        if (e instanceof MalformedJwtException) {
+            return Result.MALFORMED;
+        }
+        if (e instanceof UnsupportedJwtException) {
+            return Result.UNSUPPORTED;
+        }
+        // 토큰이 null이거나 비어 있으면 jjwt가 IllegalArgumentException을 던짐
+        if (e instanceof IllegalArgumentException) {
+            return Result.MISSING;
+        }
+        return Result.INVALID;
+    }
+}
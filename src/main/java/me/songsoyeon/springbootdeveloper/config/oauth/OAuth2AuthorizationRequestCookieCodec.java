@@ -0,0 +1,234 @@
+package me.songsoyeon.springbootdeveloper.config.oauth;
+
+import me.songsoyeon.springbootdeveloper.util.CookieCodec;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// OAuth2AuthorizationRequest 전용 쿠키 코덱
+// 자바 직렬화 대신 필요한 필드만 길이 접두 바이너리로 쓰고, (선택) Deflate 압축 후 HMAC-SHA256으로 서명
+// 형식: base64url( header(1) | payload | mac(16) ), header 상위 4비트는 버전, 하위 비트 0은 압축 여부
+public class OAuth2AuthorizationRequestCookieCodec implements CookieCodec<OAuth2AuthorizationRequest> {
+
+    private static final int VERSION = 1;
+    private static final int FLAG_DEFLATED = 0x01;
+    private static final int MAC_LENGTH = 16;
+    // 압축 해제 결과 상한(쿠키 최대 크기보다 충분히 크게). 조작된 값으로 메모리를 쓰지 못하도록 제한
+    private static final int MAX_PAYLOAD_LENGTH = 16 * 1024;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final Mac macPrototype;
+    private final boolean compress;
+
+    public OAuth2AuthorizationRequestCookieCodec(byte[] secretKey, boolean compress) {
+        try {
+            this.macPrototype = Mac.getInstance(MAC_ALGORITHM);
+            this.macPrototype.init(new SecretKeySpec(secretKey, MAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("failed to initialize cookie mac", e);
+        }
+        this.compress = compress;
+    }
+
+    // 다른 용도의 비밀값(JWT 서명 키)을 그대로 쓰지 않도록 용도 문자열을 붙여 파생
+    public static byte[] deriveKey(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(("oauth2-authorization-request:" + secret).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String encode(OAuth2AuthorizationRequest request) {
+        byte[] payload = writePayload(request);
+        int header = VERSION << 4;
+        if (compress) {
+            byte[] deflated = deflate(payload);
+            if (deflated.length < payload.length) {
+                payload = deflated;
+                header |= FLAG_DEFLATED;
+            }
+        }
+
+        byte[] message = new byte[1 + payload.length + MAC_LENGTH];
+        message[0] = (byte) header;
+        System.arraycopy(payload, 0, message, 1, payload.length);
+        byte[] mac = mac(message, 1 + payload.length);
+        System.arraycopy(mac, 0, message, 1 + payload.length, MAC_LENGTH);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(message);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest decode(String cookieValue) {
+        if (cookieValue == null || cookieValue.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] message = Base64.getUrlDecoder().decode(cookieValue);
+            if (message.length < 1 + MAC_LENGTH || (message[0] & 0xF0) >>> 4 != VERSION) {
+                return null;
+            }
+            int payloadEnd = message.length - MAC_LENGTH;
+            byte[] expectedMac = Arrays.copyOf(mac(message, payloadEnd), MAC_LENGTH);
+            byte[] actualMac = Arrays.copyOfRange(message, payloadEnd, message.length);
+            if (!MessageDigest.isEqual(expectedMac, actualMac)) {
+                return null;
+            }
+
+            byte[] payload = Arrays.copyOfRange(message, 1, payloadEnd);
+            if ((message[0] & FLAG_DEFLATED) != 0) {
+                payload = inflate(payload);
+            }
+            return readPayload(payload);
+        } catch (IllegalArgumentException | IOException | DataFormatException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(byte[] message, int length) {
+        try {
+            Mac mac = (Mac) macPrototype.clone();
+            mac.update(message, 0, length);
+            return mac.doFinal();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // authorization_code 그랜트만 지원하므로 그랜트 타입과 응답 타입은 쓰지 않음
+    // 추가 파라미터와 속성 값(nonce, registration_id, code_verifier 등)은 문자열로 저장
+    private static byte[] writePayload(OAuth2AuthorizationRequest request) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, request.getAuthorizationUri());
+            writeString(out, request.getClientId());
+            writeString(out, request.getRedirectUri());
+            writeString(out, request.getState());
+            writeString(out, request.getAuthorizationRequestUri());
+            out.writeShort(request.getScopes().size());
+            for (String scope : request.getScopes()) {
+                writeString(out, scope);
+            }
+            writeMap(out, request.getAdditionalParameters());
+            writeMap(out, request.getAttributes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static OAuth2AuthorizationRequest readPayload(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String authorizationUri = readString(in);
+        String clientId = readString(in);
+        String redirectUri = readString(in);
+        String state = readString(in);
+        String authorizationRequestUri = readString(in);
+        int scopeCount = in.readUnsignedShort();
+        Set<String> scopes = new LinkedHashSet<>();
+        for (int i = 0; i < scopeCount; i++) {
+            scopes.add(readString(in));
+        }
+        Map<String, Object> additionalParameters = readMap(in);
+        Map<String, Object> attributes = readMap(in);
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(authorizationUri)
+                .clientId(clientId)
+                .redirectUri(redirectUri)
+                .state(state)
+                .scopes(scopes)
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .authorizationRequestUri(authorizationRequestUri)
+                .build();
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeShort(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue() == null ? null : entry.getValue().toString());
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(in), readString(in));
+        }
+        return map;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated payload");
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > MAX_PAYLOAD_LENGTH) {
+                    throw new DataFormatException("payload too large");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
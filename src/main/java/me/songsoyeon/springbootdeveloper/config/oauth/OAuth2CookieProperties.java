@@ -0,0 +1,17 @@
+package me.songsoyeon.springbootdeveloper.config.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties("oauth2.cookie")
+@Component
+@Setter
+@Getter
+public class OAuth2CookieProperties {
+    // 인가 요청 쿠키 서명 키. 비어 있으면 jwt.secret_key에서 파생한 키 사용
+    private String secretKey;
+    // 압축해서 더 작아질 때만 Deflate 적용
+    private boolean compress = true;
+}
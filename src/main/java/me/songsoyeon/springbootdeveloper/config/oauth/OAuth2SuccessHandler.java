@@ -4,9 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
-import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
 import me.songsoyeon.springbootdeveloper.domain.User;
-import me.songsoyeon.springbootdeveloper.repository.RefreshTokenRepository;
+import me.songsoyeon.springbootdeveloper.repository.RefreshTokenStore;
 import me.songsoyeon.springbootdeveloper.service.UserService;
 import me.songsoyeon.springbootdeveloper.util.CookieUtil;
 import org.springframework.security.core.Authentication;
@@ -27,14 +26,17 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     public static final String REDIRECT_PATH = "/articles";
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository authorizationRequestRepository;
     private final UserService userService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        User user = userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
+        // OAuth2UserCustomService에서 저장한 유저를 그대로 사용하고, 없을 때만 조회
+        User user = oAuth2User instanceof OAuth2UserPrincipal principal
+                ? principal.getUser()
+                : userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
 
         // 리프레시 토큰 생성 -> 저장 -> 쿠키에 저장
         String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION);
@@ -49,13 +51,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
 
-    // 생성된 리프레시 토큰을 전달받아 데이터베이스에 저장
+    // 생성된 리프레시 토큰을 전달받아 저장소에 저장
     private void saveRefreshToken(Long userId, String newRefreshToken) {
-        RefreshToken refreshToken = refreshTokenRepository.findByUserId(userId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshToken(userId, newRefreshToken));
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(userId, newRefreshToken, REFRESH_TOKEN_DURATION);
     }
 
     // 생성된 리프레시 토큰을 쿠키에 저장
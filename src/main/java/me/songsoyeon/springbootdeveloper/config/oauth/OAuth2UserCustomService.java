@@ -10,6 +10,8 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -20,22 +22,28 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         // 요청을 바탕으로 유저 정보를 담은 객체 반환
         OAuth2User user = super.loadUser(userRequest);
-        saveOrUpdate(user);
-        return user;
+        // 저장한 유저 엔티티를 함께 넘겨 성공 핸들러에서 다시 조회하지 않도록 함
+        return new OAuth2UserPrincipal(user, saveOrUpdate(user));
     }
 
     // 유저가 있으면 업데이트, 없으면 유저 생성
-    private User saveOrUpdate(OAuth2User oAuth2User) {
+    User saveOrUpdate(OAuth2User oAuth2User) {
         Map<String, Object> attributes = oAuth2User.getAttributes();
-        System.out.println("attributes" + attributes.toString());
         String email = (String) attributes.get("email");
         String name = (String) attributes.get("name");
-        User user = userRepository.findByEmail(email)
-                .map(entity -> entity.update(name))
-                .orElse(User.builder()
-                        .email(email)
-                        .nickname(name)
-                        .build());
-        return userRepository.save(user);
+        Optional<User> existing = userRepository.findByEmail(email);
+        if (existing.isPresent()) {
+            User user = existing.get();
+            // 닉네임이 그대로면 쓰기 생략
+            if (Objects.equals(user.getNickname(), name)) {
+                return user;
+            }
+            return userRepository.save(user.update(name));
+        }
+
+        return userRepository.save(User.builder()
+                .email(email)
+                .nickname(name)
+                .build());
     }
 }
@@ -0,0 +1,34 @@
+package me.songsoyeon.springbootdeveloper.config.oauth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.Collection;
+import java.util.Map;
+
+// OAuth2 사용자 정보에 저장된 User 엔티티를 함께 담아 성공 핸들러까지 전달 (성공 핸들러에서 다시 조회하지 않도록)
+@RequiredArgsConstructor
+@Getter
+public class OAuth2UserPrincipal implements OAuth2User {
+
+    private final OAuth2User oAuth2User;
+    private final User user;
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return oAuth2User.getAttributes();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return oAuth2User.getAuthorities();
+    }
+
+    @Override
+    public String getName() {
+        return oAuth2User.getName();
+    }
+}
@@ -0,0 +1,74 @@
+package me.songsoyeon.springbootdeveloper.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.dto.ArticleListViewResponse;
+import me.songsoyeon.springbootdeveloper.service.BlogService;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// 글 목록 화면의 th:each에 넘기는 Iterator. 전체 목록 대신 키셋 페이지를 하나씩 조회함
+// 페이지를 조회하기 전마다 지금까지 렌더링한 HTML을 flush하므로, <head>와 상단은 첫 조회를 기다리지 않고 나가고
+// 이후 카드는 페이지 단위로 나감. 서버가 들고 있는 것은 한 페이지뿐
+// 첫 flush로 응답이 커밋되므로 렌더링 도중 조회가 실패하면 오류 화면 대신 잘린 페이지가 됨
+class ArticleListPages implements Iterator<ArticleListViewResponse> {
+
+    private final BlogService blogService;
+    private final HttpServletResponse response;
+    private final int pageSize;
+    private Iterator<ArticleListViewResponse> page = Collections.emptyIterator();
+    private long lastId;
+    // 마지막 페이지까지 읽었으면 true
+    private boolean done;
+
+    ArticleListPages(BlogService blogService, HttpServletResponse response, int pageSize) {
+        this.blogService = blogService;
+        this.response = response;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!page.hasNext() && !done) {
+            fetch();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public ArticleListViewResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    private void fetch() {
+        flush();
+        List<Article> articles = blogService.findPage(lastId, pageSize);
+        done = articles.size() < pageSize;
+        if (!articles.isEmpty()) {
+            lastId = articles.get(articles.size() - 1).getId();
+        }
+        long startedAt = ServerTiming.start();
+        page = articles.stream()
+                .map(ArticleListViewResponse::new)
+                .toList()
+                .iterator();
+        ServerTiming.stop(ServerTiming.Phase.MAP, startedAt);
+    }
+
+    private void flush() {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
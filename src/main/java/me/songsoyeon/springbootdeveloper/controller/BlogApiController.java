@@ -1,23 +1,49 @@
 package me.songsoyeon.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.songsoyeon.springbootdeveloper.domain.Article;
 import me.songsoyeon.springbootdeveloper.dto.AddArticleRequest;
+import me.songsoyeon.springbootdeveloper.dto.ArticleChangeResponse;
 import me.songsoyeon.springbootdeveloper.dto.ArticleResponse;
+import me.songsoyeon.springbootdeveloper.dto.CreateEventStreamTicketResponse;
 import me.songsoyeon.springbootdeveloper.dto.UpdateArticleRequest;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangeFeed;
+import me.songsoyeon.springbootdeveloper.repository.ArticleProjection;
+import me.songsoyeon.springbootdeveloper.service.ArticleBodyStore;
+import me.songsoyeon.springbootdeveloper.service.ArticleResponseCache;
 import me.songsoyeon.springbootdeveloper.service.BlogService;
+import me.songsoyeon.springbootdeveloper.service.EventStreamTicketService;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @RestController// HTTP Response Body에 객체 데이터를 JSON 형식으로 반환하는 컨트롤러
 public class BlogApiController {
 
+    private static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
     private final BlogService blogService;
+    private final ArticleChangeFeed articleChangeFeed;
+    private final ArticleResponseCache articleResponseCache;
+    private final ArticleBodyStore articleBodyStore;
+    private final EventStreamTicketService eventStreamTicketService;
 
     // HTTP 메서드가 POST일 때 전달받은 URL과 동일하면 메서드로 매핑
     @PostMapping("/api/articles")
@@ -31,24 +57,110 @@ public class BlogApiController {
 
     @GetMapping("/api/articles")
     public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
+        List<Article> found = blogService.findAll();
+        long startedAt = ServerTiming.start();
+        List<ArticleResponse> articles = found.stream()
                 .map(ArticleResponse::new)
                 .toList();
+        ServerTiming.stop(ServerTiming.Phase.MAP, startedAt);
+
+        return ResponseEntity.ok()
+                .body(articles);
+    }
+
+    // 필요한 필드만 조회 (GET /api/articles?fields=id,title). 고른 컬럼만 SELECT하고 응답에도 그 필드만 담음
+    @GetMapping(value = "/api/articles", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> findAllArticleFields(@RequestParam String fields) {
+        ArticleProjection projection = parseFields(fields);
+        List<Object[]> rows = blogService.findAll(projection);
+        long startedAt = ServerTiming.start();
+        List<Map<String, Object>> articles = rows.stream()
+                .map(projection::toMap)
+                .toList();
+        ServerTiming.stop(ServerTiming.Phase.MAP, startedAt);
+
+        return ResponseEntity.ok()
+                .body(articles);
+    }
+
+    // 여러 글을 한 번에 조회 (GET /api/articles?ids=1,2,3)
+    @GetMapping(value = "/api/articles", params = "ids")
+    public ResponseEntity<List<ArticleResponse>> findArticles(@RequestParam List<Long> ids) {
+        List<Article> found = blogService.findAllById(ids);
+        long startedAt = ServerTiming.start();
+        List<ArticleResponse> articles = found.stream()
+                .map(ArticleResponse::new)
+                .toList();
+        ServerTiming.stop(ServerTiming.Phase.MAP, startedAt);
+
+        return ResponseEntity.ok()
+                .body(articles);
+    }
+
+    // 여러 글을 필요한 필드만 조회 (GET /api/articles?ids=1,2,3&fields=id,title)
+    @GetMapping(value = "/api/articles", params = {"ids", "fields"})
+    public ResponseEntity<List<Map<String, Object>>> findArticlesFields(@RequestParam List<Long> ids,
+                                                                        @RequestParam String fields) {
+        ArticleProjection projection = parseFields(fields);
+        List<Map<String, Object>> articles = blogService.findAllById(ids)
+                .stream()
+                .map(projection::toMap)
+                .toList();
 
         return ResponseEntity.ok()
                 .body(articles);
     }
 
-    @GetMapping("/api/articles/{id}")
+    // SSE 연결용 일회용 티켓 발급. 헤더로 인증한 뒤 받은 티켓으로 30초 안에 한 번 연결할 수 있음
+    @PostMapping("/api/articles/changes/ticket")
+    public ResponseEntity<CreateEventStreamTicketResponse> createEventStreamTicket() {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new CreateEventStreamTicketResponse(eventStreamTicketService.issue()));
+    }
+
+    // 글 추가/수정/삭제를 SSE로 전달. 재연결 시 Last-Event-ID 이후의 변경부터 이어서 받음
+    // /api/** 이므로 인증 필요. 헤더를 붙일 수 없는 브라우저 EventSource는 위에서 받은 티켓으로 연결
+    // (new EventSource('/api/articles/changes?ticket=' + ticket)). 재연결할 때마다 새 티켓이 필요함
+    // text/event-stream 스트림은 스프링 MVC가 이 요청에만 비동기 타임아웃을 두지 않으므로(-1) 전역 타임아웃 설정은 건드리지 않음
+    @GetMapping(value = "/api/articles/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ArticleChangeResponse>> streamArticleChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return articleChangeFeed.subscribe(lastEventId);
+    }
+
     // URL 경로에서 값 추출
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) {
+    // JSON이면 미리 직렬화해 둔 바이트를 응답 스트림에 바로 쓰고(ArticleResponseCache), CBOR/Smile이면 컨버터로 직렬화
+    // produces가 다른 핸들러 둘로 나누면 Accept: */*에서 CBOR가 골라지므로 한 핸들러에서 고름
+    // 셋 다 아닌 Accept(application/xml 등)는 핸들러까지 오지 않고 406
+    @GetMapping(value = "/api/articles/{id}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, HttpServletRequest request,
+                                                       HttpServletResponse response) throws IOException {
         Article article = blogService.findById(id);
+        if (prefersJson(request)) {
+            articleResponseCache.writeJson(article, request, response);
+            return null; // 응답을 이미 씀
+        }
 
         return ResponseEntity.ok()
                 .body(new ArticleResponse(article));
     }
 
+    // 본문만 text/plain으로 응답. 저장소를 켜면 힙 밖에 보관한 UTF-8 바이트를 그대로 씀 (ArticleBodyStore)
+    @GetMapping("/api/articles/{id}/content")
+    public void findArticleContent(@PathVariable long id, HttpServletResponse response) throws IOException {
+        articleBodyStore.writeContent(id, blogService::findById, response);
+    }
+
+    @GetMapping(value = "/api/articles/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> findArticleFields(@PathVariable long id, @RequestParam String fields) {
+        ArticleProjection projection = parseFields(fields);
+        Article article = blogService.findById(id);
+
+        return ResponseEntity.ok()
+                .body(projection.toMap(article));
+    }
+
     @DeleteMapping("/api/articles/{id}")
     public ResponseEntity<Void> deleteArticle(@PathVariable long id) {
         blogService.delete(id);
@@ -64,4 +176,31 @@ public class BlogApiController {
         return ResponseEntity.ok()
                 .body(updatedArticle);
     }
+
+    // 모르는 필드나 빈 값이면 400
+    private static ArticleProjection parseFields(String fields) {
+        try {
+            return ArticleProjection.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // q값이 높은 순(같으면 적힌 순)으로 처음 맞는 형식. Accept가 없거나 */*면 JSON
+    private static boolean prefersJson(HttpServletRequest request) {
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT)));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_CBOR) || mediaType.includes(APPLICATION_SMILE)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,10 +1,15 @@
 package me.songsoyeon.springbootdeveloper.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.config.AdaptiveCompressionFilter;
+import me.songsoyeon.springbootdeveloper.config.ArticleListViewProperties;
 import me.songsoyeon.springbootdeveloper.domain.Article;
 import me.songsoyeon.springbootdeveloper.dto.ArticleListViewResponse;
 import me.songsoyeon.springbootdeveloper.dto.ArticleViewResponse;
 import me.songsoyeon.springbootdeveloper.service.BlogService;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,12 +23,24 @@ import java.util.List;
 public class BlogViewController {
 
     private final BlogService blogService;
+    private final ArticleListViewProperties listViewProperties;
 
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
+    public String getArticles(Model model, HttpServletRequest request, HttpServletResponse response) {
+        if (listViewProperties.isStreaming()) {
+            // 목록을 미리 읽지 않고, 렌더링하면서 페이지 단위로 조회하고 flush
+            request.setAttribute(AdaptiveCompressionFilter.STREAMING_ATTRIBUTE, Boolean.TRUE);
+            model.addAttribute("articles",
+                    new ArticleListPages(blogService, response, listViewProperties.getPageSize()));
+            return "articleList";
+        }
+
+        List<Article> found = blogService.findAll();
+        long startedAt = ServerTiming.start();
+        List<ArticleListViewResponse> articles = found.stream()
                 .map(ArticleListViewResponse::new)
                 .toList();
+        ServerTiming.stop(ServerTiming.Phase.MAP, startedAt);
         model.addAttribute("articles", articles); // 블로그 글 리스트 저장
 
         return "articleList"; // articleList.html 라는 뷰 조회
@@ -2,6 +2,7 @@ package me.songsoyeon.springbootdeveloper.controller;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import java.time.LocalDate;
 import java.util.List;
 
+@Lazy // 예제 페이지이므로 시작 시가 아니라 첫 요청 때 생성
 @Controller
 public class ExampleController {
     @GetMapping("/thymeleaf/example")
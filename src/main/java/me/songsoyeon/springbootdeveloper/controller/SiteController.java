@@ -0,0 +1,81 @@
+package me.songsoyeon.springbootdeveloper.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.service.SiteFeedService;
+import me.songsoyeon.springbootdeveloper.util.HttpCompression;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.ZoneId;
+
+// 크롤러용 사이트맵과 Atom 피드. 미리 만들어 둔 바이트(gzip 포함)를 그대로 씀 (SiteFeedService)
+@RequiredArgsConstructor
+@Controller
+public class SiteController {
+
+    private static final String APPLICATION_ATOM_XML_VALUE = "application/atom+xml;charset=UTF-8";
+    private static final String APPLICATION_XML_VALUE = MediaType.APPLICATION_XML_VALUE + ";charset=UTF-8";
+    // 다시 만든 뒤에도 ETag로 확인하므로 짧게 캐시
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final SiteFeedService siteFeedService;
+
+    @GetMapping("/sitemap.xml")
+    public void sitemap(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(siteFeedService.sitemap(), APPLICATION_XML_VALUE, request, response);
+    }
+
+    @GetMapping("/sitemap-{segment:\\d+}.xml")
+    public void sitemapSegment(@PathVariable int segment, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        SiteFeedService.Document document = siteFeedService.sitemapSegment(segment);
+        if (document == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "no sitemap segment " + segment);
+        }
+        write(document, APPLICATION_XML_VALUE, request, response);
+    }
+
+    @GetMapping("/feed.xml")
+    public void feed(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(siteFeedService.feed(), APPLICATION_ATOM_XML_VALUE, request, response);
+    }
+
+    private static void write(SiteFeedService.Document document, String contentType,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long lastModified = document.updated() == null
+                ? -1
+                : document.updated().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // gzip 본문과 원래 본문은 바이트가 다르므로 강한 ETag도 표현마다 달라야 함
+        boolean gzip = HttpCompression.acceptsGzip(request);
+        String etag = gzip ? gzipEtag(document.etag()) : document.etag();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        byte[] body = document.body();
+        response.setContentType(contentType);
+        if (gzip) {
+            body = document.gzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // "abc" -> "abc-gzip"
+    static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+}
@@ -0,0 +1,29 @@
+package me.songsoyeon.springbootdeveloper.controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JFR 이벤트: 컨트롤러가 반환한 Thymeleaf 뷰 렌더링 한 번
+@Name(ViewRenderEvent.NAME)
+@Label("View Render")
+@Category({"Spring Boot Developer", "Web"})
+@Description("Rendering of a view returned by a controller")
+@StackTrace(false)
+public class ViewRenderEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "springbootdeveloper.ViewRender";
+
+    @Label("View")
+    String view;
+
+    @Label("Path")
+    String path;
+
+    public ViewRenderEvent(String view, String path) {
+        this.view = view;
+        this.path = path;
+    }
+}
@@ -0,0 +1,40 @@
+package me.songsoyeon.springbootdeveloper.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 유저별 액세스 토큰 폐기 기록. revokedAt 이전에 발급된 토큰은 expiresAt까지 거부됨
+@NoArgsConstructor
+@Getter
+@Entity
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    // epoch millis
+    @Column(name = "revoked_at", nullable = false)
+    private Long revokedAt;
+
+    // epoch millis. 이 시각 이후에는 폐기 대상 토큰이 모두 만료되어 기록이 필요 없음
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+    public TokenRevocation(Long userId, Long revokedAt, Long expiresAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public TokenRevocation update(Long revokedAt, Long expiresAt) {
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+        return this;
+    }
+}
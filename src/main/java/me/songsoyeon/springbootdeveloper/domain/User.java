@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import me.songsoyeon.springbootdeveloper.service.UserCacheInvalidationListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +12,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+@EntityListeners(UserCacheInvalidationListener.class) // 저장, 수정, 삭제 시 유저 캐시 무효화
 @Table(name = "users")
 @NoArgsConstructor
 @Getter
@@ -38,6 +40,12 @@ public class User implements UserDetails {  // UserDetails를 상속받아 인
         this.nickname = nickname;
     }
 
+    // 캐시 스냅샷 등에서 영속성 컨텍스트와 분리된(detached) 유저를 만들 때 사용
+    public User(Long id, String email, String password, String nickname) {
+        this(email, password, nickname);
+        this.id = id;
+    }
+
     @Override // 권한 반환
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("user"));
@@ -0,0 +1,31 @@
+package me.songsoyeon.springbootdeveloper.dto;
+
+import lombok.Getter;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+
+// SSE로 보내는 블로그 글 변경 내용. RESET이면 클라이언트가 목록을 다시 불러와야 함
+@Getter
+public class ArticleChangeResponse {
+
+    public static final String RESET = "RESET";
+
+    private final long seq;
+    private final String type;
+    private final Long id;
+    private final long occurredAt;
+
+    public ArticleChangeResponse(long seq, ArticleChangedEvent event) {
+        this(seq, event.getType().name(), event.getArticleId(), event.getOccurredAt());
+    }
+
+    public ArticleChangeResponse(long seq, String type, Long id, long occurredAt) {
+        this.seq = seq;
+        this.type = type;
+        this.id = id;
+        this.occurredAt = occurredAt;
+    }
+
+    public static ArticleChangeResponse reset(long seq) {
+        return new ArticleChangeResponse(seq, RESET, null, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,10 @@
+package me.songsoyeon.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class CreateEventStreamTicketResponse {
+    private String ticket;
+}
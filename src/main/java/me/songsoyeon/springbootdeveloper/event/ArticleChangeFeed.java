@@ -0,0 +1,150 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.ArticleFeedProperties;
+import me.songsoyeon.springbootdeveloper.dto.ArticleChangeResponse;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+
+// 블로그 글 변경을 SSE 구독자들에게 전달
+// 구독자마다 크기가 정해진 버퍼를 두고, 버퍼가 넘치는 느린 구독자는 연결을 끊음
+// 최근 변경은 seq와 함께 보관해 Last-Event-ID로 재연결한 클라이언트가 놓친 변경을 이어 받을 수 있음
+@Component
+public class ArticleChangeFeed {
+
+    private final int subscriberBufferSize;
+    private final Duration heartbeatInterval;
+    private final Object lock = new Object();
+    // seq % history.length 위치에 최근 변경 보관 (lock으로 보호)
+    private final ArticleChangeResponse[] history;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    // 재시작 전 seq로 재연결한 클라이언트를 구분할 수 있도록 시작 시각 기준으로 시작
+    private final long firstSeq = System.currentTimeMillis() * 1000;
+    private long lastSeq = firstSeq - 1;
+    private final Counter dropped;
+
+    public ArticleChangeFeed(ArticleFeedProperties properties, MeterRegistry meterRegistry) {
+        this.subscriberBufferSize = properties.getSubscriberBufferSize();
+        this.heartbeatInterval = properties.getHeartbeatInterval();
+        this.history = new ArticleChangeResponse[Math.max(1, properties.getHistorySize())];
+
+        this.dropped = Counter.builder("article.feed.dropped").register(meterRegistry);
+        Gauge.builder("article.feed.subscribers", this, ArticleChangeFeed::subscriberCount).register(meterRegistry);
+    }
+
+    // 트랜잭션 안에서 발행되면 커밋된 뒤에 전달
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        synchronized (lock) {
+            broadcast(new ArticleChangeResponse(++lastSeq, event));
+        }
+    }
+
+    // 스냅샷으로 글 전체가 바뀌었으므로 RESET을 보내 목록을 다시 불러오게 함
+    // history에도 남겨 두어, 그 전의 seq로 재연결한 클라이언트도 RESET을 받음
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        synchronized (lock) {
+            broadcast(ArticleChangeResponse.reset(++lastSeq));
+        }
+    }
+
+    // lastEventId 이후의 변경부터 보냄. null이면 지금 이후의 변경만 보냄
+    public Flux<ServerSentEvent<ArticleChangeResponse>> subscribe(Long lastEventId) {
+        return Flux.defer(() -> {
+            Subscriber subscriber = new Subscriber();
+            synchronized (lock) {
+                replay(subscriber, lastEventId);
+                subscribers.add(subscriber);
+            }
+
+            Flux<ServerSentEvent<ArticleChangeResponse>> changes = subscriber.changes.asFlux()
+                    .map(ArticleChangeFeed::toServerSentEvent)
+                    .doFinally(signal -> close(subscriber));
+            Flux<ServerSentEvent<ArticleChangeResponse>> heartbeats = Flux.interval(heartbeatInterval)
+                    .map(tick -> ServerSentEvent.<ArticleChangeResponse>builder().comment("keepalive").build())
+                    .takeUntilOther(subscriber.closed.asMono());
+            return Flux.merge(changes, heartbeats);
+        });
+    }
+
+    public int subscriberCount() {
+        synchronized (lock) {
+            return subscribers.size();
+        }
+    }
+
+    // 놓친 변경을 보관하고 있지 않거나 버퍼에 다 담을 수 없으면 RESET을 보내 목록을 다시 불러오게 함
+    private void replay(Subscriber subscriber, Long lastEventId) {
+        if (lastEventId == null) {
+            return;
+        }
+        long oldest = Math.max(firstSeq, lastSeq - history.length + 1);
+        long missed = lastSeq - lastEventId;
+        if (lastEventId < oldest - 1 || lastEventId > lastSeq || missed > subscriberBufferSize) {
+            subscriber.offer(ArticleChangeResponse.reset(lastSeq));
+            return;
+        }
+        for (long seq = lastEventId + 1; seq <= lastSeq; seq++) {
+            subscriber.offer(history[(int) (seq % history.length)]);
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void broadcast(ArticleChangeResponse change) {
+        history[(int) (change.getSeq() % history.length)] = change;
+
+        Iterator<Subscriber> iterator = subscribers.iterator();
+        while (iterator.hasNext()) {
+            Subscriber subscriber = iterator.next();
+            if (!subscriber.offer(change)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+        }
+        subscriber.closed.tryEmitEmpty();
+    }
+
+    private static ServerSentEvent<ArticleChangeResponse> toServerSentEvent(ArticleChangeResponse change) {
+        return ServerSentEvent.builder(change)
+                .id(String.valueOf(change.getSeq()))
+                .event(change.getType().toLowerCase(Locale.ROOT))
+                .build();
+    }
+
+    private class Subscriber {
+
+        private final Sinks.Many<ArticleChangeResponse> changes =
+                Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(subscriberBufferSize));
+        private final Sinks.Empty<Void> closed = Sinks.empty();
+
+        // 버퍼가 넘치거나 이미 끊긴 구독자면 false
+        boolean offer(ArticleChangeResponse change) {
+            Sinks.EmitResult result = changes.tryEmitNext(change);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                // 지금까지 쌓인 변경을 보낸 뒤 연결을 끝냄. 클라이언트는 Last-Event-ID로 재연결해 이어 받음
+                dropped.increment();
+                changes.tryEmitComplete();
+            }
+            return result.isSuccess();
+        }
+    }
+}
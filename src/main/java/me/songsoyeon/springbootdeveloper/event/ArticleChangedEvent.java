@@ -0,0 +1,22 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 블로그 글이 추가/수정/삭제되었을 때 BlogService가 발행하는 이벤트
+@RequiredArgsConstructor
+@Getter
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long articleId;
+    private final long occurredAt; // epoch millis
+
+    public static ArticleChangedEvent of(Type type, Long articleId) {
+        return new ArticleChangedEvent(type, articleId, System.currentTimeMillis());
+    }
+}
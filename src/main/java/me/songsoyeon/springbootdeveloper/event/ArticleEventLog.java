@@ -0,0 +1,479 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.ArticleEventLogProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// 블로그 글 변경을 로컬 디스크에 순서대로 쌓는 append-only 로그 (검색, 통계, 캐시 워머용)
+// 세그먼트 파일을 미리 segment-size로 만들어 메모리 매핑하고 그 위에 고정 길이 레코드를 씀
+// 오프셋은 로그 전체에서의 바이트 위치. 세그먼트 파일 이름은 그 세그먼트의 첫 오프셋
+// 레코드: [length:int][crc32:int][type:byte][articleId:long][occurredAt:long]
+// 한 디렉터리는 한 프로세스(컨텍스트)만 쓸 수 있도록 열 때 잠금 파일을 잡음
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "article.event-log", name = "enabled", havingValue = "true")
+public class ArticleEventLog implements DisposableBean {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int PAYLOAD_SIZE = Byte.BYTES + Long.BYTES * 2;
+    public static final int RECORD_SIZE = HEADER_SIZE + PAYLOAD_SIZE;
+    private static final String SUFFIX = ".log";
+    private static final String LOCK_FILE = "LOCK";
+    private static final int TAIL_BATCH = 256;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int retainedSegments;
+    private final boolean forceOnAppend;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Condition appended = writeLock.newCondition();
+    private final CRC32 crc = new CRC32(); // writeLock으로 보호
+    private final Set<Tailer> tailers = ConcurrentHashMap.newKeySet();
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+    private Segment active; // writeLock으로 보호
+    private MappedByteBuffer activeBuffer; // writeLock으로 보호
+    // 여기까지 쓴 레코드만 읽을 수 있음
+    private volatile long endOffset;
+    // destroy() 이후 true. 세그먼트가 닫혀 더 읽거나 쓸 수 없음
+    private volatile boolean closed;
+
+    public ArticleEventLog(ArticleEventLogProperties properties) {
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentSize = (int) Math.max(RECORD_SIZE, properties.getSegmentSize().toBytes()
+                / RECORD_SIZE * RECORD_SIZE);
+        this.retainedSegments = Math.max(1, properties.getRetainedSegments());
+        this.forceOnAppend = properties.isForceOnAppend();
+        open();
+    }
+
+    // 변경이 커밋되기 직전에 기록. 기록에 실패하면 트랜잭션도 롤백됨
+    // BlogService가 이벤트를 발행하기 전에 flush하므로 SQL 오류로 실패할 변경은 여기까지 오지 않음
+    // 그래도 기록 후 커밋 자체가 실패할 수는 있으므로 소비자는 id로 다시 조회해 처리해야 함
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        append(event);
+    }
+
+    // 기록한 레코드의 오프셋을 돌려줌
+    public long append(ArticleChangedEvent event) {
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("article event log is closed: " + directory);
+            }
+            if (activeBuffer.remaining() < RECORD_SIZE) {
+                roll();
+            }
+            int position = activeBuffer.position();
+            ByteBuffer payload = activeBuffer.slice(position + HEADER_SIZE, PAYLOAD_SIZE);
+            payload.put(typeCode(event.getType()))
+                    .putLong(event.getArticleId())
+                    .putLong(event.getOccurredAt())
+                    .flip();
+            crc.reset();
+            crc.update(payload);
+            // 길이를 마지막에 써서, 쓰다 멈춘 레코드는 길이가 0으로 남아 로그의 끝으로 인식되게 함
+            activeBuffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+            activeBuffer.putInt(position, PAYLOAD_SIZE);
+            activeBuffer.position(position + RECORD_SIZE);
+            if (forceOnAppend) {
+                activeBuffer.force();
+            }
+
+            long offset = active.base + position;
+            active.limit = position + RECORD_SIZE;
+            endOffset = offset + RECORD_SIZE;
+            appended.signalAll();
+            return offset;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // offset부터 최대 maxRecords개 읽음. 보관 기간이 지나 지워진 오프셋이면 가장 오래된 레코드부터 읽음
+    public List<ArticleEventRecord> read(long offset, int maxRecords) {
+        List<ArticleEventRecord> records = new ArrayList<>();
+        long position = Math.max(offset, firstOffset());
+        long end = endOffset;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(maxRecords, segmentSize / RECORD_SIZE) * RECORD_SIZE);
+
+        while (records.size() < maxRecords && position < end) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(position);
+            if (entry == null) {
+                position = firstOffset();
+                continue;
+            }
+            Segment segment = entry.getValue();
+            long segmentEnd = Math.min(end, segment.base + segment.limit);
+            if (position >= segmentEnd) {
+                Long next = segments.higherKey(segment.base);
+                if (next == null) {
+                    break;
+                }
+                position = next;
+                continue;
+            }
+            if ((position - segment.base) % RECORD_SIZE != 0) {
+                throw new IllegalArgumentException("not a record offset: " + offset);
+            }
+
+            int count = (int) Math.min(maxRecords - records.size(), (segmentEnd - position) / RECORD_SIZE);
+            buffer.clear().limit(count * RECORD_SIZE);
+            try {
+                readFully(segment.channel(), buffer, position - segment.base);
+            } catch (ClosedByInterruptException e) {
+                // 인터럽트로 채널이 닫힘. 다음 읽기에서 다시 열림
+                throw new UncheckedIOException(e);
+            } catch (ClosedChannelException e) {
+                // 아직 목록에 있는 세그먼트가 닫혔으면 로그가 닫힌 것. 읽은 데까지를 끝으로 봄
+                if (segments.get(segment.base) == segment) {
+                    break;
+                }
+                // 읽는 도중 보관 기간이 지나 삭제된 세그먼트. 남아 있는 가장 오래된 위치부터 다시 읽음
+                position = Math.max(position, firstOffset());
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.flip();
+            for (int i = 0; i < count; i++) {
+                records.add(decode(buffer, position));
+                position += RECORD_SIZE;
+            }
+        }
+        return records;
+    }
+
+    // 가장 오래된 레코드의 오프셋
+    public long firstOffset() {
+        return segments.firstKey();
+    }
+
+    // 다음에 쓸 레코드의 오프셋
+    public long endOffset() {
+        return endOffset;
+    }
+
+    // offset부터 레코드를 consumer에 전달하는 스레드 시작. 따라잡으면 새 레코드가 기록될 때까지 기다림
+    public Tailer tail(String name, long offset, Consumer<ArticleEventRecord> consumer) {
+        Tailer tailer = new Tailer(offset, consumer);
+        tailer.thread = new Thread(tailer::run, "article-event-tail-" + name);
+        tailer.thread.setDaemon(true);
+        tailers.add(tailer);
+        tailer.thread.start();
+        return tailer;
+    }
+
+    // 따라 읽는 스레드를 먼저 멈춘 뒤 세그먼트를 닫음
+    // consumer가 오래 걸려 제때 멈추지 않은 tailer는 닫힌 세그먼트를 만나면 로그의 끝으로 보고 멈춤
+    @Override
+    public void destroy() throws IOException {
+        writeLock.lock();
+        try {
+            closed = true;
+            tailers.forEach(Tailer::close);
+            appended.signalAll();
+        } finally {
+            writeLock.unlock();
+        }
+        for (Tailer tailer : tailers) {
+            try {
+                tailer.awaitTermination(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        writeLock.lock();
+        try {
+            activeBuffer.force();
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            directoryLock.release();
+            lockChannel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            lockDirectory();
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).toList();
+            }
+            for (Path path : files) {
+                Segment segment = new Segment(baseOf(path), path);
+                segment.limit = scan(segment);
+                segments.put(segment.base, segment);
+            }
+
+            if (segments.isEmpty()) {
+                active = createSegment(0);
+            } else {
+                active = segments.lastEntry().getValue();
+            }
+            activeBuffer = active.channel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            activeBuffer.position(active.limit);
+            endOffset = active.base + active.limit;
+            log.info("article event log opened: {} segment(s), offsets {}..{}", segments.size(), firstOffset(), endOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open article event log: " + directory, e);
+        }
+    }
+
+    // 다른 프로세스나 같은 JVM의 다른 컨텍스트가 이미 열었으면 세그먼트를 건드리기 전에 실패시킴
+    private void lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) { // 같은 JVM에서 이미 잠금
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("article event log is already in use: " + directory);
+        }
+    }
+
+    // 현재 세그먼트를 실제로 쓴 크기로 잘라 닫고 새 세그먼트를 만든 뒤 오래된 세그먼트를 정리
+    private void roll() {
+        try {
+            activeBuffer.force();
+            active.channel().truncate(active.limit);
+            active = createSegment(active.base + active.limit);
+            activeBuffer = active.channel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+            while (segments.size() > retainedSegments) {
+                Segment oldest = segments.pollFirstEntry().getValue();
+                oldest.close();
+                Files.deleteIfExists(oldest.path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to roll article event log", e);
+        }
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Segment segment = new Segment(base, directory.resolve(String.format("%020d%s", base, SUFFIX)));
+        segments.put(base, segment);
+        return segment;
+    }
+
+    // 유효한 레코드가 끝나는 위치를 찾음. 길이가 0이거나 CRC가 맞지 않는 레코드부터는 버림
+    private int scan(Segment segment) throws IOException {
+        long size = Math.min(segment.channel().size(), segmentSize);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * TAIL_BATCH);
+        int limit = 0;
+        while (limit + RECORD_SIZE <= size) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), (size - limit) / RECORD_SIZE * RECORD_SIZE));
+            readFully(segment.channel(), buffer, limit);
+            buffer.flip();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                if (!isValid(buffer)) {
+                    return limit;
+                }
+                buffer.position(buffer.position() + RECORD_SIZE);
+                limit += RECORD_SIZE;
+            }
+        }
+        return limit;
+    }
+
+    private static boolean isValid(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.getInt(start) != PAYLOAD_SIZE) {
+            return false;
+        }
+        CRC32 check = new CRC32();
+        check.update(buffer.slice(start + HEADER_SIZE, PAYLOAD_SIZE));
+        return buffer.getInt(start + Integer.BYTES) == (int) check.getValue();
+    }
+
+    private static ArticleEventRecord decode(ByteBuffer buffer, long offset) {
+        if (!isValid(buffer)) {
+            throw new IllegalStateException("corrupt article event record at offset " + offset);
+        }
+        buffer.position(buffer.position() + HEADER_SIZE);
+        ArticleChangedEvent.Type type = typeOf(buffer.get());
+        long articleId = buffer.getLong();
+        long occurredAt = buffer.getLong();
+        return new ArticleEventRecord(offset, offset + RECORD_SIZE, type, articleId, occurredAt);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("unexpected end of segment at " + position);
+            }
+            position += read;
+        }
+    }
+
+    private static long baseOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    // 레코드에 저장하는 타입 코드. 기존 로그를 읽을 수 있도록 값을 바꾸지 않음
+    private static byte typeCode(ArticleChangedEvent.Type type) {
+        return switch (type) {
+            case CREATED -> 1;
+            case UPDATED -> 2;
+            case DELETED -> 3;
+        };
+    }
+
+    private static ArticleChangedEvent.Type typeOf(byte code) {
+        return switch (code) {
+            case 1 -> ArticleChangedEvent.Type.CREATED;
+            case 2 -> ArticleChangedEvent.Type.UPDATED;
+            case 3 -> ArticleChangedEvent.Type.DELETED;
+            default -> throw new IllegalStateException("unknown article event type: " + code);
+        };
+    }
+
+    // 새 레코드가 기록되거나 timeout이 지날 때까지 기다림
+    private void awaitAppend(long offset, long timeoutMillis) throws InterruptedException {
+        writeLock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (endOffset <= offset && remaining > 0 && !closed) {
+                remaining = appended.awaitNanos(remaining);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static class Segment {
+        private final long base;
+        private final Path path;
+        private volatile FileChannel channel;
+        private volatile boolean closed;
+        // 이 세그먼트에서 유효한 레코드가 끝나는 위치
+        private volatile int limit;
+
+        Segment(long base, Path path) throws IOException {
+            this.base = base;
+            this.path = path;
+            this.channel = open(path);
+        }
+
+        // 읽던 스레드가 인터럽트되면 FileChannel이 닫히므로, 삭제된 세그먼트가 아니면 다시 열어 줌
+        synchronized FileChannel channel() throws IOException {
+            if (!closed && !channel.isOpen()) {
+                channel = open(path);
+            }
+            return channel;
+        }
+
+        synchronized void close() throws IOException {
+            closed = true;
+            channel.close();
+        }
+
+        private static FileChannel open(Path path) throws IOException {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+    }
+
+    // 로그를 따라 읽는 소비자. offset()을 저장해 두면 재시작 후 그 위치부터 이어 읽을 수 있음
+    public class Tailer implements AutoCloseable {
+
+        private final Consumer<ArticleEventRecord> consumer;
+        private Thread thread;
+        private volatile long offset;
+        private volatile boolean running = true;
+
+        private Tailer(long offset, Consumer<ArticleEventRecord> consumer) {
+            this.offset = offset;
+            this.consumer = consumer;
+        }
+
+        public long offset() {
+            return offset;
+        }
+
+        // 인터럽트하면 읽던 세그먼트 채널이 닫히므로 플래그만 내림. 늦어도 1초 안에 멈춤
+        @Override
+        public void close() {
+            running = false;
+        }
+
+        // 스레드가 끝날 때까지 최대 timeoutMillis 기다림. 끝났으면 true
+        boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+            thread.join(timeoutMillis);
+            return !thread.isAlive();
+        }
+
+        private void run() {
+            try {
+                follow();
+            } finally {
+                tailers.remove(this);
+            }
+        }
+
+        private void follow() {
+            while (running && !closed) {
+                try {
+                    List<ArticleEventRecord> records = read(offset, TAIL_BATCH);
+                    if (records.isEmpty()) {
+                        awaitAppend(offset, 1000);
+                        continue;
+                    }
+                    for (ArticleEventRecord record : records) {
+                        if (!running) {
+                            return;
+                        }
+                        consumer.accept(record);
+                        offset = record.getNextOffset();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("article event tailer failed at offset {}", offset, e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// ArticleEventLog에서 읽은 레코드. 다음 레코드는 nextOffset부터 읽으면 됨
+@RequiredArgsConstructor
+@Getter
+public class ArticleEventRecord {
+    private final long offset;
+    private final long nextOffset;
+    private final ArticleChangedEvent.Type type;
+    private final long articleId;
+    private final long occurredAt; // epoch millis
+}
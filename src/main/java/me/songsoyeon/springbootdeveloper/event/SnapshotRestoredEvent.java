@@ -0,0 +1,19 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 스냅샷 불러오기가 커밋된 뒤 SnapshotService가 발행하는 이벤트
+// 글과 유저를 JDBC로 한꺼번에 바꾸므로 글마다 ArticleChangedEvent를 보내지 않고, 캐시와 구독자는 이 이벤트로 전부 다시 읽음
+@RequiredArgsConstructor
+@Getter
+public class SnapshotRestoredEvent {
+
+    private final long articles;
+    private final long users;
+    private final long occurredAt; // epoch millis
+
+    public static SnapshotRestoredEvent of(long articles, long users) {
+        return new SnapshotRestoredEvent(articles, users, System.currentTimeMillis());
+    }
+}
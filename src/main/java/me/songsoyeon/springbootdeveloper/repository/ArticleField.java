@@ -0,0 +1,46 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// ?fields= 로 고를 수 있는 글 필드. 이름은 JSON 필드 이름이자 JPQL 속성 이름
+public enum ArticleField {
+    ID("id", Article::getId),
+    TITLE("title", Article::getTitle),
+    CONTENT("content", Article::getContent),
+    AUTHOR("author", Article::getAuthor),
+    CREATED_AT("createdAt", Article::getCreatedAt),
+    UPDATED_AT("updatedAt", Article::getUpdatedAt);
+
+    private static final Map<String, ArticleField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ArticleField::fieldName, Function.identity()));
+
+    private final String fieldName;
+    // 이미 읽어 온 엔티티에서 값을 꺼낼 때 사용 (리플렉션 없음)
+    private final Function<Article, Object> accessor;
+
+    ArticleField(String fieldName, Function<Article, Object> accessor) {
+        this.fieldName = fieldName;
+        this.accessor = accessor;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public Object valueOf(Article article) {
+        return accessor.apply(article);
+    }
+
+    public static ArticleField of(String fieldName) {
+        ArticleField field = BY_NAME.get(fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("unknown field: " + fieldName + " (allowed: " + BY_NAME.keySet() + ")");
+        }
+        return field;
+    }
+}
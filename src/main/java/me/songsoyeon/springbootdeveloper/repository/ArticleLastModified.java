@@ -0,0 +1,17 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import java.time.LocalDateTime;
+
+// 사이트맵용 글 id와 작성/수정 시각 (인터페이스 기반 프로젝션)
+public interface ArticleLastModified {
+
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    default LocalDateTime lastModified() {
+        return getUpdatedAt() != null ? getUpdatedAt() : getCreatedAt();
+    }
+}
@@ -0,0 +1,101 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 글 필드 조합 하나에 대한 조회 계획: SELECT할 JPQL과 응답 필드 순서
+// 필드가 6개뿐이라 가능한 조합(63가지)을 클래스 로딩 시 모두 만들어 두고, 요청마다 비트마스크로 꺼내 씀
+public final class ArticleProjection {
+
+    private static final ArticleField[] FIELDS = ArticleField.values();
+    private static final ArticleProjection[] PLANS = new ArticleProjection[1 << FIELDS.length];
+
+    static {
+        for (int mask = 1; mask < PLANS.length; mask++) {
+            PLANS[mask] = new ArticleProjection(mask);
+        }
+    }
+
+    private final int mask;
+    private final List<ArticleField> fields;
+    private final String jpql;
+
+    private ArticleProjection(int mask) {
+        this.mask = mask;
+        List<ArticleField> selected = new ArrayList<>();
+        StringBuilder select = new StringBuilder("select ");
+        for (ArticleField field : FIELDS) {
+            if ((mask & (1 << field.ordinal())) != 0) {
+                if (!selected.isEmpty()) {
+                    select.append(", ");
+                }
+                select.append("a.").append(field.fieldName());
+                selected.add(field);
+            }
+        }
+        this.fields = Collections.unmodifiableList(selected);
+        this.jpql = select.append(" from Article a").toString();
+    }
+
+    // 예) "id,title" -> id, title 조합. 모르는 필드나 빈 값이면 IllegalArgumentException
+    public static ArticleProjection parse(String fields) {
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                mask |= 1 << ArticleField.of(trimmed).ordinal();
+            }
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("fields must not be empty");
+        }
+        return PLANS[mask];
+    }
+
+    public static ArticleProjection of(ArticleField... fields) {
+        int mask = 0;
+        for (ArticleField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("fields must not be empty");
+        }
+        return PLANS[mask];
+    }
+
+    public List<ArticleField> fields() {
+        return fields;
+    }
+
+    public String jpql() {
+        return jpql;
+    }
+
+    // jpql() 결과 한 행을 필드 이름 -> 값으로 변환
+    public Map<String, Object> toMap(Object[] row) {
+        Map<String, Object> values = new LinkedHashMap<>(fields.size() * 2);
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(fields.get(i).fieldName(), row[i]);
+        }
+        return values;
+    }
+
+    // 이미 읽어 온 엔티티에서 고른 필드만 꺼냄
+    public Map<String, Object> toMap(Article article) {
+        Map<String, Object> values = new LinkedHashMap<>(fields.size() * 2);
+        for (ArticleField field : fields) {
+            values.put(field.fieldName(), field.valueOf(article));
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleProjection" + fields + "(mask=" + mask + ")";
+    }
+}
@@ -1,7 +1,31 @@
 package me.songsoyeon.springbootdeveloper.repository;
 
+import jakarta.persistence.QueryHint;
 import me.songsoyeon.springbootdeveloper.domain.Article;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface BlogRepository extends JpaRepository<Article,Long> {
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BlogRepository extends JpaRepository<Article,Long>, BlogRepositoryCustom {
+
+    // 키셋 페이지: id가 afterId보다 큰 글을 id 순으로 limit개. OFFSET 없이 기본 키 인덱스로 바로 이어서 읽음
+    List<Article> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // [fromId, toId) 구간 글의 id와 작성/수정 시각을 id 순으로 스트리밍. 트랜잭션 안에서 쓰고 반드시 닫아야 함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select a.id as id, a.createdAt as createdAt, a.updatedAt as updatedAt from Article a "
+            + "where a.id >= :fromId and a.id < :toId order by a.id")
+    Stream<ArticleLastModified> streamLastModified(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select max(a.id) from Article a")
+    Long findMaxId();
+
+    // 최근 수정된 글부터
+    List<Article> findByOrderByUpdatedAtDescIdDesc(Limit limit);
 }
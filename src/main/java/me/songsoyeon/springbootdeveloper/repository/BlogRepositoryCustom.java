@@ -0,0 +1,9 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import java.util.List;
+
+public interface BlogRepositoryCustom {
+
+    // 고른 필드의 컬럼만 SELECT. 각 행은 projection.fields() 순서의 값 배열
+    List<Object[]> findAllProjected(ArticleProjection projection);
+}
@@ -0,0 +1,23 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+
+public class BlogRepositoryCustomImpl implements BlogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // JPQL 문자열이 조합마다 고정이므로 하이버네이트 쿼리 계획 캐시에서 재사용됨
+    @Override
+    public List<Object[]> findAllProjected(ArticleProjection projection) {
+        return entityManager.createQuery(projection.jpql(), Tuple.class)
+                .getResultList()
+                .stream()
+                .map(Tuple::toArray)
+                .toList();
+    }
+}
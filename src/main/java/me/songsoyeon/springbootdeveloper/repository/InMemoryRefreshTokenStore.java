@@ -0,0 +1,270 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.RefreshTokenStoreProperties;
+import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
+import me.songsoyeon.springbootdeveloper.util.HashedTimingWheel;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 노드용 메모리 리프레시 토큰 저장소
+// 만료는 타이밍 휠로 정리하고, snapshot-path가 있으면 변경 내역을 append-only 파일에 남겨 재시작 시 복원
+// 토큰 원문은 보관하지 않고 SHA-256 다이제스트로만 조회함 (스냅샷 파일이 유출돼도 토큰을 재사용할 수 없음)
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "refresh-token.store", name = "type", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, DisposableBean {
+
+    private static final String SAVE = "S";
+    private static final String DELETE = "D";
+    private static final String SEPARATOR = "\t";
+
+    private final ConcurrentHashMap<Long, Entry> byUserId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Entry> byDigest = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<Entry> expirations;
+    private final Path snapshotPath;
+    private final long compactSize;
+    private final Object snapshotLock = new Object();
+
+    // snapshotLock으로 보호
+    private BufferedWriter snapshotWriter;
+    private long snapshotBytes;
+
+    public InMemoryRefreshTokenStore(RefreshTokenStoreProperties properties) {
+        this.expirations = new HashedTimingWheel<>("refresh-token-expiry", properties.getTickDuration(),
+                properties.getTicksPerWheel(), this::expire);
+        this.snapshotPath = properties.getSnapshotPath() == null || properties.getSnapshotPath().isBlank()
+                ? null
+                : Path.of(properties.getSnapshotPath());
+        this.compactSize = properties.getSnapshotCompactSize().toBytes();
+        if (snapshotPath != null) {
+            openSnapshot();
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> findByRefreshToken(String refreshToken) {
+        Entry entry = byDigest.get(digest(refreshToken));
+        // 타이밍 휠이 아직 정리하지 못한 만료 항목도 걸러냄
+        if (entry == null || entry.expiresAt() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshToken(entry.userId(), refreshToken));
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, Duration timeToLive) {
+        Entry entry = new Entry(userId, digest(refreshToken), System.currentTimeMillis() + timeToLive.toMillis());
+        put(entry);
+        append(saveRecord(entry));
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+        byUserId.computeIfPresent(userId, (id, current) -> {
+            byDigest.remove(current.digest(), current);
+            return null;
+        });
+        append(DELETE + SEPARATOR + userId);
+    }
+
+    // 스냅샷 파일도 빈 상태로 다시 씀. 타이밍 휠에 남은 항목은 만료 시 없는 유저로 보고 무시됨
+    @Override
+    public void deleteAll() {
+        byUserId.clear();
+        byDigest.clear();
+        if (snapshotPath == null) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            if (snapshotWriter == null) { // 종료 중
+                return;
+            }
+            try {
+                compact();
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to compact refresh token snapshot", e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        expirations.close();
+        synchronized (snapshotLock) {
+            if (snapshotWriter != null) {
+                snapshotWriter.close();
+                snapshotWriter = null;
+            }
+        }
+    }
+
+    // 현재 스냅샷 파일 크기 (테스트, 모니터링용)
+    long snapshotBytes() {
+        synchronized (snapshotLock) {
+            return snapshotBytes;
+        }
+    }
+
+    // 유저 단위로 두 인덱스를 함께 갱신
+    private void put(Entry entry) {
+        byUserId.compute(entry.userId(), (id, previous) -> {
+            if (previous != null) {
+                byDigest.remove(previous.digest(), previous);
+            }
+            byDigest.put(entry.digest(), entry);
+            return entry;
+        });
+        expirations.schedule(entry, entry.expiresAt());
+    }
+
+    // 타이밍 휠에서 만료된 항목 제거. 그 사이 새 토큰으로 교체됐다면 건드리지 않음
+    private void expire(Entry entry) {
+        byUserId.computeIfPresent(entry.userId(), (id, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            byDigest.remove(current.digest(), current);
+            return null;
+        });
+    }
+
+    // 스냅샷 파일을 재생해 상태를 복원하고, 살아 있는 항목만 남도록 파일을 다시 쓴 뒤 이어쓰기 모드로 엶
+    private void openSnapshot() {
+        try {
+            if (Files.exists(snapshotPath)) {
+                replay(snapshotPath);
+            }
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            synchronized (snapshotLock) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open refresh token snapshot: " + snapshotPath, e);
+        }
+    }
+
+    // snapshotLock을 잡은 상태에서 호출. 살아 있는 항목만 임시 파일에 쓰고 원자적으로 교체
+    private void compact() throws IOException {
+        if (snapshotWriter != null) {
+            snapshotWriter.close();
+        }
+        long now = System.currentTimeMillis();
+        long bytes = 0;
+        Path compacted = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (Entry entry : byUserId.values()) {
+                if (entry.expiresAt() <= now) {
+                    continue;
+                }
+                String record = saveRecord(entry);
+                writer.write(record);
+                writer.newLine();
+                bytes += record.length() + 1;
+            }
+        }
+        Files.move(compacted, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        snapshotWriter = Files.newBufferedWriter(snapshotPath, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        snapshotBytes = bytes;
+    }
+
+    private void replay(Path path) throws IOException {
+        long now = System.currentTimeMillis();
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(SEPARATOR);
+                try {
+                    if (SAVE.equals(fields[0]) && fields.length == 4) {
+                        long expiresAt = Long.parseLong(fields[2]);
+                        if (expiresAt > now) {
+                            put(new Entry(Long.parseLong(fields[1]), storedDigest(fields[3]), expiresAt));
+                        } else {
+                            deleteByUserIdInMemory(Long.parseLong(fields[1]));
+                        }
+                    } else if (DELETE.equals(fields[0]) && fields.length == 2) {
+                        deleteByUserIdInMemory(Long.parseLong(fields[1]));
+                    } else {
+                        skipped++;
+                    }
+                } catch (NumberFormatException e) { // 비정상 종료로 잘린 마지막 줄 등
+                    skipped++;
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("skipped {} malformed lines in refresh token snapshot {}", skipped, path);
+        }
+    }
+
+    private void deleteByUserIdInMemory(Long userId) {
+        Entry removed = byUserId.remove(userId);
+        if (removed != null) {
+            byDigest.remove(removed.digest(), removed);
+        }
+    }
+
+    private void append(String record) {
+        if (snapshotPath == null) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            if (snapshotWriter == null) { // 종료 중
+                return;
+            }
+            try {
+                snapshotWriter.write(record);
+                snapshotWriter.newLine();
+                snapshotWriter.flush();
+                snapshotBytes += record.length() + 1;
+                if (snapshotBytes > compactSize) {
+                    compact();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to append refresh token snapshot", e);
+            }
+        }
+    }
+
+    private static String saveRecord(Entry entry) {
+        return SAVE + SEPARATOR + entry.userId() + SEPARATOR + entry.expiresAt() + SEPARATOR + entry.digest();
+    }
+
+    // 이전 버전은 토큰 원문(JWT, '.' 포함)을 기록했으므로 읽으면서 다이제스트로 바꿈
+    private static String storedDigest(String value) {
+        return value.indexOf('.') >= 0 ? digest(value) : value;
+    }
+
+    static String digest(String refreshToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Long userId, String digest, long expiresAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import jakarta.transaction.Transactional;
+import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
+import me.songsoyeon.springbootdeveloper.util.DatabaseProduct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 데이터베이스(refresh_token 테이블)에 리프레시 토큰을 저장하는 기본 구현체
+@Repository
+@ConditionalOnProperty(prefix = "refresh-token.store", name = "type", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String H2_UPSERT =
+            "MERGE INTO refresh_token (user_id, refresh_token) KEY (user_id) VALUES (?, ?)";
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO refresh_token (user_id, refresh_token) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE refresh_token = VALUES(refresh_token)";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    // 업서트를 지원하지 않는 데이터베이스면 null (조회 후 저장으로 대체)
+    private final String upsertSql;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository, JdbcTemplate jdbcTemplate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = switch (DatabaseProduct.of(jdbcTemplate)) {
+            case H2 -> H2_UPSERT;
+            case MYSQL -> MYSQL_UPSERT;
+            case OTHER -> null;
+        };
+    }
+
+    @Override
+    public Optional<RefreshToken> findByRefreshToken(String refreshToken) {
+        return refreshTokenRepository.findByRefreshToken(refreshToken);
+    }
+
+    // 만료는 JWT 자체의 exp 클레임으로 검증하므로 timeToLive는 사용하지 않음
+    // user_id 유니크 키 기준 업서트 한 번으로 저장(로그인마다 조회 + 저장 두 번 하던 것을 줄임)
+    @Override
+    public void save(Long userId, String newRefreshToken, Duration timeToLive) {
+        if (upsertSql != null) {
+            jdbcTemplate.update(upsertSql, userId, newRefreshToken);
+            return;
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByUserId(userId)
+                .map(entity -> entity.update(newRefreshToken))
+                .orElse(new RefreshToken(userId, newRefreshToken));
+
+        refreshTokenRepository.save(refreshToken);
+    }
+
+    @Transactional
+    @Override
+    public void deleteByUserId(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Override
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+    }
+}
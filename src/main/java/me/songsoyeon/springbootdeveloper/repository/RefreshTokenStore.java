@@ -0,0 +1,22 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 리프레시 토큰 저장소 추상화 (refresh-token.store.type 으로 구현체 선택)
+public interface RefreshTokenStore {
+
+    // 리프레시 토큰으로 저장된 토큰 정보 조회
+    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+
+    // 유저의 리프레시 토큰 저장. 이미 있으면 새 토큰으로 교체
+    void save(Long userId, String refreshToken, Duration timeToLive);
+
+    // 유저의 리프레시 토큰 삭제
+    void deleteByUserId(Long userId);
+
+    // 모든 리프레시 토큰 삭제 (스냅샷으로 유저를 통째로 바꿀 때)
+    void deleteAll();
+}
@@ -0,0 +1,22 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import jakarta.transaction.Transactional;
+import me.songsoyeon.springbootdeveloper.domain.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+    Optional<TokenRevocation> findByUserId(Long userId);
+
+    List<TokenRevocation> findByExpiresAtGreaterThan(Long now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenRevocation t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Long now);
+}
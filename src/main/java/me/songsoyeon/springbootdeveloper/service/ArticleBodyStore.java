@@ -0,0 +1,402 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.ArticleBodyStoreProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+// 글 본문(UTF-8 바이트)을 힙 밖(다이렉트 버퍼 또는 메모리 매핑 파일)에 보관하는 저장소
+// 오래 살아남는 큰 String이 old 영역을 채워 GC가 길어지는 것을 막기 위해, 힙에는 id -> 위치 인덱스(기본형 배열)만 둠
+// 세그먼트를 차례로 채우는 링 구조: 마지막 세그먼트까지 차면 가장 오래된 세그먼트의 본문을 버리고 그 자리에 씀
+// 위치는 [세그먼트 세대:32][세그먼트 안 오프셋:32]로 long 하나에 담음
+// 수정/삭제 이벤트가 오면 인덱스에서 지우므로, 보관된 본문은 DB를 거치지 않고 응답 스트림에 바로 씀
+@Slf4j
+@Component
+public class ArticleBodyStore implements DisposableBean {
+
+    static final String CACHE_NAME = "article-body";
+    private static final String CONTENT_TYPE = MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8";
+    // 스레드별 복사 버퍼는 이 크기까지만 재사용. 더 큰 본문은 요청마다 새로 할당
+    private static final int SCRATCH_RETAIN = 64 * 1024;
+
+    private final boolean enabled;
+    private final boolean mapped;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxBodySize;
+    private final ByteBuffer[] segments;
+    private final FileChannel[] channels;
+    private final Index index = new Index(1024);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[4096]);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // 아래는 쓰기 락으로 보호
+    private long generation;
+    private int writeOffset;
+    // 수정/삭제로 인덱스에서 지울 때마다 증가. 조회 중에 바뀌었으면 읽어 온 본문을 보관하지 않음
+    private long invalidations;
+    // 게이지에서 락 없이 읽음
+    private volatile long bodyBytes;
+    private volatile long stringHeapBytes;
+
+    public ArticleBodyStore(ArticleBodyStoreProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.mapped = "mapped".equalsIgnoreCase(properties.getType());
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentSize = (int) Math.min(Integer.MAX_VALUE, properties.getSegmentSize().toBytes());
+        this.maxBodySize = (int) Math.min(segmentSize, properties.getMaxBodySize().toBytes());
+        int count = enabled ? Math.max(2, properties.getSegments()) : 0;
+        this.segments = new ByteBuffer[count];
+        this.channels = new FileChannel[count];
+        if (enabled) {
+            segments[0] = allocate(0);
+            log.info("article body store: {} x {} bytes ({})", count, segmentSize, mapped ? "mapped" : "direct");
+        }
+
+        FunctionCounter.builder("article.body.store.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("article.body.store.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("article.body.store.size", this, ArticleBodyStore::size).register(meterRegistry);
+        Gauge.builder("article.body.store.bytes", this, ArticleBodyStore::bytes)
+                .description("UTF-8 article bodies held off-heap")
+                .register(meterRegistry);
+        Gauge.builder("article.body.store.capacity", this, store -> (double) store.segments.length * store.segmentSize)
+                .register(meterRegistry);
+        Gauge.builder("article.body.store.heap.saved", this, ArticleBodyStore::heapSaved)
+                .description("estimated heap the same bodies would take as Strings, minus the on-heap index")
+                .register(meterRegistry);
+    }
+
+    // 글 본문을 text/plain으로 응답. 보관된 본문이 있으면 DB 조회와 String 생성 없이 바이트만 씀
+    public void writeContent(long articleId, LongFunction<Article> loader, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        if (!enabled) {
+            write(response, loader.apply(articleId).getContent().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        CacheAccessEvent event = CacheAccessEvent.begin(CACHE_NAME);
+        byte[] buffer = null;
+        int length = -1;
+        long seenInvalidations;
+        lock.readLock().lock();
+        try {
+            int slot = index.find(articleId);
+            if (slot >= 0) {
+                length = index.lengths[slot];
+                buffer = scratch(length);
+                read(index.locations[slot], buffer, length);
+            }
+            seenInvalidations = invalidations;
+        } finally {
+            lock.readLock().unlock();
+            event.commit(articleId, length >= 0);
+        }
+
+        if (length >= 0) {
+            hits.increment();
+            response.setContentLength(length);
+            response.getOutputStream().write(buffer, 0, length);
+            return;
+        }
+        misses.increment();
+        String content = loader.apply(articleId).getContent();
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        put(articleId, body, stringHeapSize(content, body), seenInvalidations);
+        write(response, body);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() != ArticleChangedEvent.Type.CREATED) {
+            remove(event.getArticleId());
+        }
+    }
+
+    public void remove(long articleId) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            invalidations++;
+            int slot = index.find(articleId);
+            if (slot >= 0) {
+                bodyBytes -= index.lengths[slot];
+                stringHeapBytes -= index.heapSizes[slot];
+                index.remove(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 스냅샷으로 글 전체가 바뀌었으므로 인덱스를 비움. 세그먼트에 남은 본문은 링을 돌며 덮어씀
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            invalidations++;
+            index.clear();
+            bodyBytes = 0;
+            stringHeapBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return index.size;
+    }
+
+    public long bytes() {
+        return bodyBytes;
+    }
+
+    public long heapSaved() {
+        return stringHeapBytes - index.heapBytes();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (FileChannel channel : channels) {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        if (mapped) {
+            for (int i = 0; i < channels.length; i++) {
+                Files.deleteIfExists(segmentPath(i));
+            }
+        }
+    }
+
+    // seenInvalidations 이후에 수정/삭제가 있었으면 읽어 온 본문이 이미 낡았을 수 있으므로 보관하지 않음
+    private void put(long articleId, byte[] body, int heapSize, long seenInvalidations) {
+        if (articleId <= 0 || body.length > maxBodySize) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (invalidations != seenInvalidations || index.find(articleId) >= 0) {
+                return;
+            }
+            if (writeOffset + body.length > segmentSize) {
+                roll();
+            }
+            int slot = (int) (generation % segments.length);
+            segments[slot].put(writeOffset, body, 0, body.length);
+            index.put(articleId, generation << 32 | writeOffset, body.length, heapSize);
+            writeOffset += body.length;
+            bodyBytes += body.length;
+            stringHeapBytes += heapSize;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 다음 세그먼트로 넘어감. 링을 한 바퀴 돌았으면 그 세그먼트에 있던 본문을 인덱스에서 지움
+    private void roll() {
+        generation++;
+        writeOffset = 0;
+        int slot = (int) (generation % segments.length);
+        if (segments[slot] == null) {
+            segments[slot] = allocate(slot);
+            return;
+        }
+        Index.Removed removed = index.removeOlderThan(generation - segments.length + 1);
+        bodyBytes -= removed.bytes();
+        stringHeapBytes -= removed.heapBytes();
+        log.debug("article body store: dropped segment {} ({} bodies)", slot, removed.entries());
+    }
+
+    private void read(long location, byte[] target, int length) {
+        ByteBuffer segment = segments[(int) ((location >>> 32) % segments.length)];
+        segment.get((int) location, target, 0, length);
+    }
+
+    private byte[] scratch(int length) {
+        byte[] buffer = scratch.get();
+        if (buffer.length >= length) {
+            return buffer;
+        }
+        if (length > SCRATCH_RETAIN) {
+            return new byte[length];
+        }
+        buffer = new byte[Math.min(SCRATCH_RETAIN, Math.max(length, buffer.length * 2))];
+        scratch.set(buffer);
+        return buffer;
+    }
+
+    private ByteBuffer allocate(int slot) {
+        if (!mapped) {
+            return ByteBuffer.allocateDirect(segmentSize);
+        }
+        try {
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(segmentPath(slot), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channels[slot] = channel;
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot map article body segment " + segmentPath(slot), e);
+        }
+    }
+
+    private Path segmentPath(int slot) {
+        return directory.resolve("segment-" + slot + ".dat");
+    }
+
+    private static void write(HttpServletResponse response, byte[] body) throws IOException {
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // 같은 본문을 String으로 들고 있을 때의 힙 크기 추정: String 객체 24 + 배열 헤더 16 + 문자 바이트(8바이트 정렬)
+    // ASCII만 있으면 LATIN1(1바이트/문자), 아니면 UTF16(2바이트/문자)으로 봄
+    static int stringHeapSize(String content, byte[] utf8) {
+        int chars = utf8.length == content.length() ? content.length() : content.length() * 2;
+        return 24 + 16 + (chars + 7 & ~7);
+    }
+
+    // 글 id -> (위치, 길이, String 환산 힙 크기). 선형 탐사 오픈 어드레싱, 빈 칸은 키 0 (글 id는 1부터)
+    static final class Index {
+
+        long[] keys;
+        long[] locations;
+        int[] lengths;
+        int[] heapSizes;
+        int size;
+        private int mask;
+
+        Index(int capacity) {
+            allocate(Integer.highestOneBit(Math.max(16, capacity) - 1) << 1);
+        }
+
+        int find(long key) {
+            for (int i = home(key); keys[i] != 0; i = i + 1 & mask) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, long location, int length, int heapSize) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                rehash(keys.length * 2, Long.MIN_VALUE);
+            }
+            int i = home(key);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = i + 1 & mask;
+            }
+            if (keys[i] == 0) {
+                keys[i] = key;
+                size++;
+            }
+            locations[i] = location;
+            lengths[i] = length;
+            heapSizes[i] = heapSize;
+        }
+
+        // 빈 칸을 만들지 않도록 뒤에 이어진 항목을 당겨 채움 (backward shift deletion)
+        void remove(int slot) {
+            int hole = slot;
+            for (int j = hole + 1 & mask; keys[j] != 0; j = j + 1 & mask) {
+                int home = home(keys[j]);
+                boolean reachable = hole <= j ? hole < home && home <= j : hole < home || home <= j;
+                if (!reachable) {
+                    keys[hole] = keys[j];
+                    locations[hole] = locations[j];
+                    lengths[hole] = lengths[j];
+                    heapSizes[hole] = heapSizes[j];
+                    hole = j;
+                }
+            }
+            keys[hole] = 0;
+            size--;
+        }
+
+        void clear() {
+            allocate(keys.length);
+            size = 0;
+        }
+
+        // 세대가 minGeneration보다 작은 항목을 모두 지움
+        Removed removeOlderThan(long minGeneration) {
+            int entries = 0;
+            long bytes = 0;
+            long heapBytes = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0 && locations[i] >>> 32 < minGeneration) {
+                    entries++;
+                    bytes += lengths[i];
+                    heapBytes += heapSizes[i];
+                }
+            }
+            if (entries > 0) {
+                rehash(keys.length, minGeneration);
+            }
+            return new Removed(entries, bytes, heapBytes);
+        }
+
+        long heapBytes() {
+            return 4L * 16 + (long) keys.length * (Long.BYTES * 2 + Integer.BYTES * 2);
+        }
+
+        private void rehash(int capacity, long minGeneration) {
+            long[] oldKeys = keys;
+            long[] oldLocations = locations;
+            int[] oldLengths = lengths;
+            int[] oldHeapSizes = heapSizes;
+            allocate(capacity);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0 && oldLocations[i] >>> 32 >= minGeneration) {
+                    put(oldKeys[i], oldLocations[i], oldLengths[i], oldHeapSizes[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            locations = new long[capacity];
+            lengths = new int[capacity];
+            heapSizes = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        private int home(long key) {
+            return (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        }
+
+        record Removed(int entries, long bytes, long heapBytes) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+// JFR 이벤트: BlogService의 글 저장소 접근 한 번 (조회, 저장, 삭제)
+@Name(ArticleRepositoryEvent.NAME)
+@Label("Article Repository Access")
+@Category({"Spring Boot Developer", "Database"})
+@Description("BlogRepository call made by BlogService")
+@StackTrace(false)
+public class ArticleRepositoryEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "springbootdeveloper.ArticleRepository";
+    private static final int FAILED = -1;
+
+    @Label("Operation")
+    String operation;
+
+    // 여러 글을 다루는 호출이면 0
+    @Label("Article Id")
+    long articleId;
+
+    @Label("Requested Ids")
+    int requestedIds;
+
+    // 예외로 끝난 호출이면 FAILED(-1)
+    @Label("Row Count")
+    int rowCount;
+
+    // 저장소 호출 하나를 이벤트로 감쌈. 예외로 끝나도 걸린 시간은 기록함
+    static <T> T record(String operation, long articleId, int requestedIds, Supplier<T> call,
+                        ToIntFunction<T> rowCount) {
+        ArticleRepositoryEvent event = begin(operation, articleId, requestedIds);
+        int rows = FAILED;
+        try {
+            T result = call.get();
+            rows = rowCount.applyAsInt(result);
+            return result;
+        } finally {
+            event.commit(rows);
+        }
+    }
+
+    static ArticleRepositoryEvent begin(String operation, long articleId, int requestedIds) {
+        ArticleRepositoryEvent event = new ArticleRepositoryEvent();
+        event.operation = operation;
+        event.articleId = articleId;
+        event.requestedIds = requestedIds;
+        event.begin();
+        return event;
+    }
+
+    void commit(int rowCount) {
+        this.rowCount = rowCount;
+        commit();
+    }
+}
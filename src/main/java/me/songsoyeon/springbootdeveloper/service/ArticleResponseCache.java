@@ -0,0 +1,192 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.config.ArticleResponseCacheProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.dto.ArticleResponse;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import me.songsoyeon.springbootdeveloper.util.HttpCompression;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// GET /api/articles/{id} 응답 본문을 직렬화된 바이트 그대로 보관하는 캐시
+// 키는 (글 id, 콘텐츠 타입)이고 항목마다 직렬화 당시의 updatedAt을 함께 두어, 글이 바뀌었으면 다시 직렬화함
+// 수정/삭제 이벤트가 오면 바로 지우므로 자주 읽히는 글은 Jackson을 거치지 않고 바이트만 씀
+// 일정 크기 이상의 본문은 gzip 본문도 함께 만들어 두고 Accept-Encoding: gzip 요청에 그대로 씀
+@Component
+public class ArticleResponseCache {
+
+    static final String CACHE_NAME = "article-response";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final boolean gzip;
+    private final long gzipMinSize;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    // 항목 본문과 gzip 본문 바이트 합계
+    private final AtomicLong bytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ArticleResponseCache(ObjectMapper objectMapper, ArticleResponseCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.maxEntries = properties.getMaxEntries();
+        this.maxBytes = properties.getMaxSize().toBytes();
+        this.gzip = properties.isGzip();
+        this.gzipMinSize = properties.getGzipMinSize().toBytes();
+
+        FunctionCounter.builder("article.response.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("article.response.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("article.response.cache.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+        Gauge.builder("article.response.cache.bytes", bytes, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 글을 JSON으로 응답. 캐시에 같은 버전이 있으면 직렬화 없이 바이트만 씀
+    public void writeJson(Article article, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Entry entry = jsonEntry(article);
+        byte[] body = entry.body();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip && body.length >= gzipMinSize) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (HttpCompression.acceptsGzip(request)) {
+                body = entry.gzip() != null ? entry.gzip() : HttpCompression.gzip(body);
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() != ArticleChangedEvent.Type.CREATED) {
+            evict(event.getArticleId());
+        }
+    }
+
+    // 스냅샷으로 글 전체가 바뀌었으므로 모두 지움
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        entries.forEach(this::remove);
+    }
+
+    public void evict(long articleId) {
+        entries.forEach((key, entry) -> {
+            if (key.articleId() == articleId) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long bytes() {
+        return bytes.get();
+    }
+
+    // 지금 담긴 항목 크기를 직접 더한 값. bytes()와 같아야 함 (테스트용)
+    long entryBytes() {
+        return entries.values().stream().mapToLong(Entry::size).sum();
+    }
+
+    private Entry jsonEntry(Article article) {
+        CacheAccessEvent event = CacheAccessEvent.begin(CACHE_NAME);
+        Key key = new Key(article.getId(), MediaType.APPLICATION_JSON_VALUE);
+        Entry cached = enabled ? entries.get(key) : null;
+        boolean hit = cached != null && Objects.equals(cached.updatedAt(), article.getUpdatedAt());
+        try {
+            if (hit) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            Entry entry = ServerTiming.time(ServerTiming.Phase.JSON, () -> newEntry(article));
+            if (enabled) {
+                put(key, entry);
+            }
+            return entry;
+        } finally {
+            event.commit(key.articleId(), hit);
+        }
+    }
+
+    // 캐시에 넣을 항목이면 gzip 본문도 미리 만들어 둠
+    private Entry newEntry(Article article) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new ArticleResponse(article));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = enabled && gzip && body.length >= gzipMinSize ? HttpCompression.gzip(body) : null;
+        return new Entry(article.getUpdatedAt(), body, compressed);
+    }
+
+    private void put(Key key, Entry entry) {
+        if (entry.size() > maxBytes) {
+            return;
+        }
+        while (entries.size() >= maxEntries || bytes.get() + entry.size() > maxBytes) {
+            if (!evictOne()) {
+                break;
+            }
+        }
+        Entry previous = entries.put(key, entry);
+        bytes.addAndGet(entry.size() - (previous == null ? 0 : previous.size()));
+    }
+
+    // 용량을 넘으면 임의의 항목 하나를 내보냄. 다른 스레드가 먼저 지웠어도 자리가 났으므로 true
+    private boolean evictOne() {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        Map.Entry<Key, Entry> victim = iterator.next();
+        remove(victim.getKey(), victim.getValue());
+        return true;
+    }
+
+    // 이 스레드가 실제로 지웠을 때만 바이트를 뺌. 같은 항목을 여러 스레드가 지우거나 put이 바꿔 넣어도 한 번만 빠짐
+    private void remove(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            bytes.addAndGet(-entry.size());
+        }
+    }
+
+    private record Key(long articleId, String contentType) {
+    }
+
+    // gzip은 압축하지 않는 크기이거나 gzip을 끈 경우 null
+    private record Entry(LocalDateTime updatedAt, byte[] body, byte[] gzip) {
+
+        long size() {
+            return body.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
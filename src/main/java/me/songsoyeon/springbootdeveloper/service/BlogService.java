@@ -1,59 +1,197 @@
 package me.songsoyeon.springbootdeveloper.service;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.config.ArticleReadProperties;
 import me.songsoyeon.springbootdeveloper.domain.Article;
 import me.songsoyeon.springbootdeveloper.dto.AddArticleRequest;
 import me.songsoyeon.springbootdeveloper.dto.UpdateArticleRequest;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.repository.ArticleProjection;
 import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.util.BatchLoader;
+import me.songsoyeon.springbootdeveloper.util.ServerTiming;
+import me.songsoyeon.springbootdeveloper.util.SingleFlight;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-@RequiredArgsConstructor // final이 붙거나 @NotNull이 붙은 필드의 생성자 추가
 @Service // 빈으로 등록
 public class BlogService {
 
     private final BlogRepository blogRepository;
+    // 글 추가/수정/삭제를 ArticleChangedEvent로 알림
+    private final ApplicationEventPublisher eventPublisher;
+    // 같은 글에 대한 동시 조회를 DB 조회 한 번으로 합침
+    private final SingleFlight<Long, Article> articleLoads;
+    // 같은 순간 들어온 서로 다른 글 조회를 IN 쿼리 한 번으로 묶음 (비활성화 시 null)
+    private final BatchLoader<Long, Article> articleBatches;
+    private final int multiGetMaxIds;
 
+    public BlogService(BlogRepository blogRepository, ArticleReadProperties articleReadProperties,
+                       ApplicationEventPublisher eventPublisher) {
+        this.blogRepository = blogRepository;
+        this.eventPublisher = eventPublisher;
+        this.articleLoads = new SingleFlight<>(articleReadProperties.getSingleFlightTimeout());
+        this.articleBatches = articleReadProperties.isBatchEnabled()
+                ? new BatchLoader<>("article-batch",
+                        articleReadProperties.getBatchWindow(),
+                        articleReadProperties.getBatchMaxSize(),
+                        articleReadProperties.getSingleFlightTimeout(),
+                        articleReadProperties.getBatchThreads(),
+                        this::loadArticles)
+                : null;
+        this.multiGetMaxIds = articleReadProperties.getMultiGetMaxIds();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (articleBatches != null) {
+            articleBatches.close();
+        }
+    }
 
     // 블로그 글 추가
+    @Transactional
     public Article save(AddArticleRequest request, String username) {
-        return blogRepository.save(request.toEntity(username));
+        Article article = ServerTiming.time(ServerTiming.Phase.DB, () -> ArticleRepositoryEvent.record("save", 0, 0,
+                () -> blogRepository.save(request.toEntity(username)), saved -> 1));
+        publish(ArticleChangedEvent.Type.CREATED, article);
+        return article;
     }
 
     // 블로그 글 전체 조회
     public List<Article> findAll() {
-        return blogRepository.findAll();
+        return ServerTiming.time(ServerTiming.Phase.DB, () -> ArticleRepositoryEvent.record("findAll", 0, 0,
+                () -> blogRepository.findAll(), List::size));
+    }
+
+    // id가 afterId보다 큰 블로그 글을 id 순으로 최대 pageSize개 조회 (처음은 afterId = 0)
+    public List<Article> findPage(long afterId, int pageSize) {
+        return ServerTiming.time(ServerTiming.Phase.DB, () -> ArticleRepositoryEvent.record("findPage", afterId, pageSize,
+                () -> blogRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize)), List::size));
+    }
+
+    // 블로그 글 전체 조회 (고른 필드의 컬럼만 SELECT). 각 행은 projection.fields() 순서의 값 배열
+    public List<Object[]> findAll(ArticleProjection projection) {
+        return ServerTiming.time(ServerTiming.Phase.DB, () -> ArticleRepositoryEvent.record("findAllProjected", 0, 0,
+                () -> blogRepository.findAllProjected(projection), List::size));
     }
 
     // 블로그 글 단일 조회
+    // 인기 글에 요청이 몰려도 id마다 진행 중인 조회는 하나뿐이고, 나머지는 그 결과를 기다림
+    // 서로 다른 id의 조회는 짧은 시간 동안 모아 IN 쿼리 한 번으로 처리
     public Article findById(Long id) {
-        return blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        long startedAt = ServerTiming.start();
+        try {
+            return articleLoads.execute(id, () -> loadArticle(id));
+        } catch (SingleFlight.TimeoutException | BatchLoader.TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.DB, startedAt);
+        }
+    }
+
+    // 블로그 글 여러 개 조회. 요청한 id 순서대로 반환하고 없는 글은 건너뜀
+    public List<Article> findAllById(List<Long> ids) {
+        if (ids.size() > multiGetMaxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "too many ids: " + ids.size() + " (max " + multiGetMaxIds + ")");
+        }
+        Collection<Long> distinctIds = new LinkedHashSet<>(ids);
+        long startedAt = ServerTiming.start();
+        try {
+            if (articleBatches == null) {
+                Map<Long, Article> loaded = loadArticles(distinctIds);
+                return distinctIds.stream()
+                        .map(loaded::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+            }
+            return articleBatches.loadAll(distinctIds);
+        } catch (BatchLoader.TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } finally {
+            ServerTiming.stop(ServerTiming.Phase.DB, startedAt);
+        }
     }
 
     // 블로그 글 삭제
+    @Transactional
     public void delete(Long id) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        long startedAt = ServerTiming.start();
+        Article article = getArticle(id);
         authorizeArticleAuthor(article);
-        blogRepository.delete(article);
+        ArticleRepositoryEvent.record("delete", id, 1, () -> {
+            blogRepository.delete(article);
+            return article;
+        }, deleted -> 1);
+        ServerTiming.stop(ServerTiming.Phase.DB, startedAt);
+        publish(ArticleChangedEvent.Type.DELETED, article);
     }
 
     // 블로그 글 수정
     @Transactional
     public Article update(Long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        Article article = ServerTiming.time(ServerTiming.Phase.DB, () -> getArticle(id));
 
         authorizeArticleAuthor(article);
         article.update(request.getTitle(), request.getContent());
+        publish(ArticleChangedEvent.Type.UPDATED, article);
+
+        return article;
+    }
 
+    private Article loadArticle(Long id) {
+        Article article = articleBatches != null
+                ? articleBatches.load(id)
+                : findByIdOrNull(id);
+        if (article == null) {
+            throw new IllegalArgumentException("not found: " + id);
+        }
         return article;
     }
 
+    private Article getArticle(Long id) {
+        Article article = findByIdOrNull(id);
+        if (article == null) {
+            throw new IllegalArgumentException("not found: " + id);
+        }
+        return article;
+    }
+
+    private Article findByIdOrNull(Long id) {
+        return ArticleRepositoryEvent.record("findById", id, 1,
+                () -> blogRepository.findById(id).orElse(null), article -> article == null ? 0 : 1);
+    }
+
+    // WHERE id IN (...) 한 번으로 조회
+    private Map<Long, Article> loadArticles(Collection<Long> ids) {
+        return ArticleRepositoryEvent.record("findAllById", ids.size() == 1 ? ids.iterator().next() : 0, ids.size(),
+                () -> blogRepository.findAllById(ids)
+                        .stream()
+                        .collect(Collectors.toMap(Article::getId, Function.identity())),
+                Map::size);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 구독자에게 전달됨
+    // 더티 체킹으로 미뤄 둔 UPDATE/DELETE를 먼저 실행해, 커밋 때 실패할 변경이 커밋 직전 기록(ArticleEventLog)에 남지 않게 함
+    private void publish(ArticleChangedEvent.Type type, Article article) {
+        blogRepository.flush();
+        eventPublisher.publishEvent(ArticleChangedEvent.of(type, article.getId()));
+    }
+
     // 게시글을 작성한 유저인지 확인
     private static void authorizeArticleAuthor(Article article) {
         String userName = SecurityContextHolder.getContext().getAuthentication().getName();
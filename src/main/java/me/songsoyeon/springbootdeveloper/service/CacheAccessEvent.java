@@ -0,0 +1,45 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// JFR 이벤트: 애플리케이션 캐시 조회 한 번. 미스면 loader로 원본을 읽어 오는 시간까지 포함
+// 적중은 거의 0초이므로 threshold를 두면 느린 미스만 남음
+@Name(CacheAccessEvent.NAME)
+@Label("Cache Access")
+@Category({"Spring Boot Developer", "Cache"})
+@Description("Lookup in an application-level cache, including the load on a miss")
+@StackTrace(false)
+public class CacheAccessEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "springbootdeveloper.CacheAccess";
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    boolean hit;
+
+    public static CacheAccessEvent begin(String cache) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.cache = cache;
+        event.begin();
+        return event;
+    }
+
+    // 키 문자열은 이벤트가 실제로 기록될 때만 만듦
+    public void commit(Object key, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.key = String.valueOf(key);
+            this.hit = hit;
+            commit();
+        }
+    }
+}
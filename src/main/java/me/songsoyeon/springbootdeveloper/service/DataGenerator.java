@@ -0,0 +1,252 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.DataGeneratorProperties;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
+import me.songsoyeon.springbootdeveloper.repository.JpaRefreshTokenStore;
+import me.songsoyeon.springbootdeveloper.repository.RefreshTokenStore;
+import me.songsoyeon.springbootdeveloper.util.DatabaseProduct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// 성능 테스트용 유저, 글, 리프레시 토큰을 대량으로 생성
+// 여러 스레드가 batchSize개씩 나눠 JDBC 배치로 삽입하고, id는 직접 지정한 뒤 identity를 맞춤
+// 생성한 유저의 비밀번호는 모두 "password"
+@Slf4j
+@RequiredArgsConstructor
+@Profile("datagen")
+@Service
+public class DataGenerator {
+
+    public static final String PASSWORD = "password";
+
+    private static final String[] KOREAN_WORDS = {
+            "스프링", "부트", "개발", "블로그", "오늘", "정리", "공부", "코드", "서버", "데이터베이스",
+            "성능", "테스트", "배포", "프로젝트", "기록", "문제", "해결", "방법", "경험", "생각",
+            "자바", "토큰", "인증", "보안", "캐시", "요청", "응답", "화면", "기능", "구현",
+            "그리고", "하지만", "그래서", "정말", "조금", "많이", "다시", "먼저", "함께", "새로운",
+            "했다", "있다", "없다", "된다", "한다", "같다", "좋다", "어렵다", "쉽다", "중요하다"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "boot", "developer", "blog", "today", "notes", "study", "code", "server", "database",
+            "performance", "test", "deploy", "project", "record", "problem", "solution", "approach", "lesson", "idea",
+            "java", "token", "auth", "security", "cache", "request", "response", "view", "feature", "build",
+            "and", "but", "so", "really", "a", "the", "again", "first", "together", "new",
+            "was", "is", "works", "runs", "makes", "looks", "good", "hard", "easy", "important"
+    };
+
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE =
+            "INSERT INTO article (id, title, content, author, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_REFRESH_TOKEN = "INSERT INTO refresh_token (user_id, refresh_token) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenProvider tokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final DataGeneratorProperties properties;
+    // 로그인 때 검증하는 인코더와 같은 설정(strength)으로 해싱하도록 공용 빈을 씀
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    public void generate() {
+        if (properties.getUsers() < 1 && properties.getArticles() > 0) {
+            throw new IllegalArgumentException("datagen.users must be positive to generate articles");
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article", Long.class);
+        if (properties.isSkipIfPresent() && existing != null && existing >= properties.getArticles()) {
+            log.info("datagen skipped: {} articles already present", existing);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long firstUserId = nextId("users");
+        long firstArticleId = nextId("article");
+        // bcrypt는 느리므로 한 번만 해싱해 모든 유저가 같은 해시를 씀
+        String passwordHash = bCryptPasswordEncoder.encode(PASSWORD);
+
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            runChunks(executor, properties.getUsers(), (from, to, random) ->
+                    insertUsers(firstUserId, from, to, passwordHash));
+            restartIdentity("users", firstUserId + properties.getUsers());
+            if (properties.isRefreshTokens()) {
+                generateRefreshTokens(executor, firstUserId);
+            }
+            runChunks(executor, properties.getArticles(), (from, to, random) ->
+                    insertArticles(firstArticleId, firstUserId, from, to, random));
+            restartIdentity("article", firstArticleId + properties.getArticles());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        long rows = (long) properties.getUsers() * (properties.isRefreshTokens() ? 2 : 1) + properties.getArticles();
+        log.info("datagen finished: {} users, {} articles in {}ms ({} rows/s, {} threads)",
+                properties.getUsers(), properties.getArticles(), elapsed, rows * 1000 / elapsed, threads);
+    }
+
+    private void insertUsers(long firstUserId, int from, int to, String passwordHash) {
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            long id = firstUserId + i;
+            rows.add(new Object[]{id, email(id), passwordHash, "datagen" + id});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER, rows);
+    }
+
+    private void insertArticles(long firstArticleId, long firstUserId, int from, int to, SplittableRandom random) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            boolean korean = random.nextDouble() < properties.getKoreanRatio();
+            String[] words = korean ? KOREAN_WORDS : ENGLISH_WORDS;
+            // 최근 2년 동안 작성, 일부는 나중에 수정됨
+            LocalDateTime createdAt = now.minusSeconds(random.nextLong(2L * 365 * 24 * 60 * 60));
+            LocalDateTime updatedAt = random.nextInt(10) < 3
+                    ? createdAt.plusSeconds(random.nextLong(30L * 24 * 60 * 60))
+                    : createdAt;
+            rows.add(new Object[]{
+                    firstArticleId + i,
+                    title(words, random),
+                    content(words, random),
+                    email(firstUserId + random.nextInt(properties.getUsers())),
+                    createdAt,
+                    updatedAt
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE, rows);
+    }
+
+    private void generateRefreshTokens(ExecutorService executor, long firstUserId) {
+        Date expiry = new Date(System.currentTimeMillis() + OAuth2SuccessHandler.REFRESH_TOKEN_DURATION.toMillis());
+        String[] tokens = new String[properties.getUsers()];
+        boolean jdbc = refreshTokenStore instanceof JpaRefreshTokenStore;
+
+        runChunks(executor, properties.getUsers(), (from, to, random) -> {
+            List<Object[]> rows = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                long userId = firstUserId + i;
+                tokens[i] = tokenProvider.makeToken(expiry, userId, email(userId));
+                rows.add(new Object[]{userId, tokens[i]});
+            }
+            if (jdbc) {
+                jdbcTemplate.batchUpdate(INSERT_REFRESH_TOKEN, rows);
+            } else {
+                rows.forEach(row -> refreshTokenStore.save((Long) row[0], (String) row[1],
+                        OAuth2SuccessHandler.REFRESH_TOKEN_DURATION));
+            }
+        });
+
+        if (properties.getTokenOutput() != null && !properties.getTokenOutput().isBlank()) {
+            writeTokens(Path.of(properties.getTokenOutput()), firstUserId, tokens);
+        }
+    }
+
+    private void writeTokens(Path path, long firstUserId, String[] tokens) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < tokens.length; i++) {
+                long userId = firstUserId + i;
+                writer.write(userId + "\t" + email(userId) + "\t" + tokens[i]);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write refresh tokens: " + path, e);
+        }
+    }
+
+    // [0, total)을 batchSize개씩 나눠 병렬로 실행. 청크마다 seed에서 파생한 난수를 써서 결과가 재현됨
+    private void runChunks(ExecutorService executor, int total, ChunkTask task) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += batchSize) {
+            int start = from;
+            int end = Math.min(total, from + batchSize);
+            SplittableRandom random = new SplittableRandom(properties.getSeed() * 31 + start);
+            futures.add(executor.submit(() -> task.run(start, end, random)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("datagen failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("datagen interrupted", e);
+            }
+        }
+    }
+
+    private String title(String[] words, SplittableRandom random) {
+        StringBuilder title = new StringBuilder();
+        int count = 2 + random.nextInt(7);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(words[random.nextInt(words.length)]);
+        }
+        return title.toString();
+    }
+
+    // 길이는 로그 정규 분포: 대부분 중앙값 근처이고 가끔 긴 글이 나옴
+    private String content(String[] words, SplittableRandom random) {
+        double length = properties.getMedianContentLength()
+                * Math.exp(properties.getContentLengthSigma() * random.nextGaussian());
+        int target = (int) Math.max(1, Math.min(properties.getMaxContentLength(), length));
+
+        StringBuilder content = new StringBuilder(target + 16);
+        int wordsInSentence = 0;
+        while (content.length() < target) {
+            if (content.length() > 0) {
+                content.append(wordsInSentence == 0 ? "\n" : " ");
+            }
+            content.append(words[random.nextInt(words.length)]);
+            if (++wordsInSentence >= 6 + random.nextInt(10)) {
+                content.append('.');
+                wordsInSentence = 0;
+            }
+        }
+        content.setLength(target);
+        return content.toString();
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (max == null ? 0 : max) + 1;
+    }
+
+    private void restartIdentity(String table, long next) {
+        if (!DatabaseProduct.of(jdbcTemplate).restartIdentity(jdbcTemplate, table, next)) {
+            log.warn("cannot restart identity of {}; set it to {} manually", table, next);
+        }
+    }
+
+    private static String email(long userId) {
+        return "datagen" + userId + "@example.com";
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to, SplittableRandom random);
+    }
+}
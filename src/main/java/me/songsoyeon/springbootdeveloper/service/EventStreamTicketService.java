@@ -0,0 +1,50 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 헤더를 붙일 수 없는 브라우저 EventSource용 SSE 연결 티켓
+// 액세스 토큰을 URL에 싣지 않도록, 헤더로 인증한 요청에서 짧게 사는 일회용 티켓을 발급하고
+// SSE 연결 시 ?ticket= 으로 받아 서버에 보관한 액세스 토큰으로 바꿈. 접근 로그에 티켓이 남아도 다시 쓸 수 없음
+@Service
+public class EventStreamTicketService {
+
+    static final Duration TICKET_TTL = Duration.ofSeconds(30);
+
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    // 현재 요청을 인증한 액세스 토큰으로 티켓 발급
+    public String issue() {
+        String accessToken = SecurityContextHolder.getContext().getAuthentication().getCredentials().toString();
+        long now = System.currentTimeMillis();
+        // 쓰지 않고 만료된 티켓 정리
+        tickets.values().removeIf(ticket -> ticket.expiresAt() <= now);
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(accessToken, now + TICKET_TTL.toMillis()));
+        return ticket;
+    }
+
+    // 티켓을 한 번만 액세스 토큰으로 바꿈. 없거나 만료됐으면 null
+    public String redeem(String ticket) {
+        if (ticket == null) {
+            return null;
+        }
+        Ticket redeemed = tickets.remove(ticket);
+        if (redeemed == null || redeemed.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return redeemed.accessToken();
+    }
+
+    private record Ticket(String accessToken, long expiresAt) {
+    }
+}
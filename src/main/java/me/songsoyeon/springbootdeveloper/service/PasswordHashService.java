@@ -0,0 +1,95 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import me.songsoyeon.springbootdeveloper.config.PasswordHashProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 해싱 전용 스레드 풀
+// 해싱은 CPU만 쓰므로 코어 수만큼만 동시에 돌리고, 대기열이 차면 요청 스레드를 붙잡지 않고 바로 503으로 거절
+@Service
+public class PasswordHashService {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashService(BCryptPasswordEncoder bCryptPasswordEncoder,
+                               PasswordHashProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("user.password.hash")
+                .description("BCrypt 해싱에 걸린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("user.password.hash.rejected")
+                .description("대기열이 가득 차 거절된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("user.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    // 해싱 스레드에서 패스워드를 인코딩하고 결과를 기다림
+    public String encode(String rawPassword) {
+        Supplier<String> hash = () -> bCryptPasswordEncoder.encode(rawPassword);
+        Callable<String> task = () -> hashTimer.record(hash);
+
+        Future<String> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "too many signup requests");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("failed to hash password", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
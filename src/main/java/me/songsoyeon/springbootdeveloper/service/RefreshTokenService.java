@@ -4,18 +4,19 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
 import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
-import me.songsoyeon.springbootdeveloper.repository.RefreshTokenRepository;
+import me.songsoyeon.springbootdeveloper.repository.RefreshTokenStore;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final TokenProvider tokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
+        return refreshTokenStore.findByRefreshToken(refreshToken)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
     }
 
@@ -24,6 +25,8 @@ public class RefreshTokenService {
         String token = SecurityContextHolder.getContext().getAuthentication().getCredentials().toString();
         Long userId = tokenProvider.getUserId(token);
 
-        refreshTokenRepository.deleteByUserId(userId);
+        refreshTokenStore.deleteByUserId(userId);
+        // 이미 발급된 액세스 토큰도 만료 전까지 사용하지 못하도록 폐기
+        tokenRevocationService.revokeAll(userId);
     }
 }
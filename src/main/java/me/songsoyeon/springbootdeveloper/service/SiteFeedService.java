@@ -0,0 +1,364 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.SiteProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import me.songsoyeon.springbootdeveloper.repository.ArticleLastModified;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.util.HttpCompression;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// /sitemap.xml, /sitemap-{n}.xml, /feed.xml 본문을 만들어 두고 바이트(와 gzip 본문) 그대로 응답하게 하는 서비스
+// 사이트맵은 글 id 구간으로 나눈 세그먼트: n번 세그먼트는 id가 [n * size, (n + 1) * size)인 글 (0번에는 /articles 포함)
+// 글이 바뀌면 그 글의 세그먼트와 피드만 표시해 두고, rebuild-delay 뒤에 백그라운드에서 표시된 것만 다시 만듦
+// 요청은 만들어 둔 본문만 읽으므로 크롤러가 몰려도 DB를 조회하지 않음. 처음 요청 때 전체를 한 번 만듦
+@Slf4j
+@Component
+public class SiteFeedService implements DisposableBean {
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final int SUMMARY_LENGTH = 200;
+    private static final DateTimeFormatter W3C_DATETIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate readOnly;
+    private final String baseUrl;
+    private final String title;
+    private final int segmentSize;
+    private final int feedEntries;
+    private final long rebuildDelayMillis;
+    private final ScheduledExecutorService rebuilder;
+
+    // 비어 있는 세그먼트는 두지 않음 (0번 제외)
+    private final ConcurrentSkipListMap<Integer, Document> segments = new ConcurrentSkipListMap<>();
+    private volatile Document index;
+    private volatile Document feed;
+    private volatile boolean built;
+    private final Set<Integer> dirtySegments = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean feedDirty = new AtomicBoolean();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    public SiteFeedService(BlogRepository blogRepository, PlatformTransactionManager transactionManager,
+                           SiteProperties properties) {
+        this.blogRepository = blogRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.baseUrl = properties.getBaseUrl().replaceAll("/+$", "");
+        this.title = properties.getTitle();
+        // 0번 세그먼트에는 /articles도 들어가므로 글 id 구간을 하나 줄여 파일당 URL 수를 맞춤
+        this.segmentSize = Math.max(1, properties.getSitemapSegmentSize() - 1);
+        this.feedEntries = properties.getFeedEntries();
+        this.rebuildDelayMillis = properties.getRebuildDelay().toMillis();
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "site-feed-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 세그먼트가 하나면 그 urlset, 여럿이면 sitemapindex
+    public Document sitemap() {
+        ensureBuilt();
+        return segments.size() > 1 ? index : segments.get(0);
+    }
+
+    // 없는 세그먼트면 null
+    public Document sitemapSegment(int segment) {
+        ensureBuilt();
+        return segments.get(segment);
+    }
+
+    public Document feed() {
+        ensureBuilt();
+        return feed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        dirtySegments.add(segmentOf(event.getArticleId()));
+        feedDirty.set(true);
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuildDirty, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 스냅샷으로 글 전체가 바뀌었으므로 다음 요청 때 처음부터 다시 만듦. 그 전까지는 만들어 둔 본문으로 응답
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        synchronized (this) {
+            built = false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+
+    // 표시된 세그먼트와 피드만 다시 만듦. 그동안 들어온 변경은 다음 실행에서 반영
+    void rebuildDirty() {
+        rebuildScheduled.set(false);
+        synchronized (this) {
+            if (!built) {
+                return;
+            }
+            try {
+                List<Integer> changed = new ArrayList<>(dirtySegments);
+                dirtySegments.removeAll(changed);
+                for (int segment : changed) {
+                    buildSegment(segment);
+                }
+                if (!changed.isEmpty()) {
+                    index = buildIndex();
+                }
+                if (feedDirty.getAndSet(false)) {
+                    feed = buildFeed();
+                }
+                log.debug("site feed: rebuilt sitemap segments {}", changed);
+            } catch (RuntimeException e) {
+                // 만들어 둔 본문은 그대로 두고 다음 변경 때 다시 시도
+                log.warn("site feed rebuild failed", e);
+            }
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (built) {
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            // 여기서부터 들어오는 변경은 다시 표시되므로, 그 전에 쌓인 표시만 지움
+            dirtySegments.clear();
+            feedDirty.set(false);
+            Long maxId = blogRepository.findMaxId();
+            int last = maxId == null ? 0 : segmentOf(maxId);
+            for (int segment = 0; segment <= last; segment++) {
+                buildSegment(segment);
+            }
+            // 다시 만드는 경우 글이 줄어 더는 없는 세그먼트를 지움
+            segments.tailMap(last, false).clear();
+            index = buildIndex();
+            feed = buildFeed();
+            built = true;
+            log.info("site feed: built {} sitemap segments and feed in {}ms",
+                    segments.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private int segmentOf(long articleId) {
+        return (int) Math.min(Integer.MAX_VALUE, articleId / segmentSize);
+    }
+
+    private void buildSegment(int segment) {
+        long fromId = (long) segment * segmentSize;
+        Document document = readOnly.execute(status -> {
+            try (Stream<ArticleLastModified> rows = blogRepository.streamLastModified(fromId, fromId + segmentSize)) {
+                return urlset(segment, rows);
+            }
+        });
+        if (document == null) {
+            segments.remove(segment);
+        } else {
+            segments.put(segment, document);
+        }
+    }
+
+    // 글이 하나도 없으면 null (0번 세그먼트는 /articles가 있으므로 항상 만듦)
+    private Document urlset(int segment, Stream<ArticleLastModified> rows) {
+        return write((xml, lastModified) -> {
+            xml.writeStartElement("urlset");
+            xml.writeDefaultNamespace(SITEMAP_NS);
+            if (segment == 0) {
+                url(xml, baseUrl + "/articles", null);
+            }
+            int count = 0;
+            for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                ArticleLastModified row = iterator.next();
+                LocalDateTime modified = row.lastModified();
+                lastModified.accept(modified);
+                url(xml, articleUrl(row.getId()), modified);
+            }
+            xml.writeEndElement();
+            return segment == 0 || count > 0;
+        });
+    }
+
+    private void url(XMLStreamWriter xml, String loc, LocalDateTime lastModified) throws XMLStreamException {
+        xml.writeStartElement("url");
+        element(xml, "loc", loc);
+        if (lastModified != null) {
+            element(xml, "lastmod", format(lastModified));
+        }
+        xml.writeEndElement();
+    }
+
+    private Document buildIndex() {
+        return write((xml, lastModified) -> {
+            xml.writeStartElement("sitemapindex");
+            xml.writeDefaultNamespace(SITEMAP_NS);
+            for (Map.Entry<Integer, Document> entry : segments.entrySet()) {
+                xml.writeStartElement("sitemap");
+                element(xml, "loc", baseUrl + "/sitemap-" + entry.getKey() + ".xml");
+                if (entry.getValue().updated() != null) {
+                    lastModified.accept(entry.getValue().updated());
+                    element(xml, "lastmod", format(entry.getValue().updated()));
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            return true;
+        });
+    }
+
+    private Document buildFeed() {
+        List<Article> articles = blogRepository.findByOrderByUpdatedAtDescIdDesc(Limit.of(feedEntries));
+        return write((xml, lastModified) -> {
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NS);
+            element(xml, "title", title);
+            element(xml, "id", baseUrl + "/articles");
+            link(xml, "self", baseUrl + "/feed.xml");
+            link(xml, null, baseUrl + "/articles");
+            LocalDateTime newest = articles.stream()
+                    .map(SiteFeedService::lastModified)
+                    .filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo)
+                    .orElse(LocalDateTime.of(1970, 1, 1, 0, 0));
+            element(xml, "updated", format(newest));
+            xml.writeStartElement("author");
+            element(xml, "name", title);
+            xml.writeEndElement();
+
+            for (Article article : articles) {
+                LocalDateTime updated = lastModified(article);
+                lastModified.accept(updated);
+                xml.writeStartElement("entry");
+                element(xml, "title", article.getTitle());
+                element(xml, "id", articleUrl(article.getId()));
+                link(xml, null, articleUrl(article.getId()));
+                element(xml, "updated", format(updated != null ? updated : newest));
+                if (article.getCreatedAt() != null) {
+                    element(xml, "published", format(article.getCreatedAt()));
+                }
+                if (article.getAuthor() != null) {
+                    xml.writeStartElement("author");
+                    element(xml, "name", article.getAuthor());
+                    xml.writeEndElement();
+                }
+                element(xml, "summary", summary(article.getContent()));
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            return true;
+        });
+    }
+
+    private String articleUrl(long id) {
+        return baseUrl + "/articles/" + id;
+    }
+
+    private static LocalDateTime lastModified(Article article) {
+        return article.getUpdatedAt() != null ? article.getUpdatedAt() : article.getCreatedAt();
+    }
+
+    private static String summary(String content) {
+        if (content == null || content.length() <= SUMMARY_LENGTH) {
+            return content == null ? "" : content;
+        }
+        // 서로게이트 쌍 가운데서 자르지 않음
+        int end = Character.isHighSurrogate(content.charAt(SUMMARY_LENGTH - 1)) ? SUMMARY_LENGTH - 1 : SUMMARY_LENGTH;
+        return content.substring(0, end) + "…";
+    }
+
+    private static String format(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.SECONDS).atZone(ZoneId.systemDefault()).format(W3C_DATETIME);
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    private static void link(XMLStreamWriter xml, String rel, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        if (rel != null) {
+            xml.writeAttribute("rel", rel);
+        }
+        xml.writeAttribute("href", href);
+    }
+
+    // body가 false를 돌려주면 null
+    private static Document write(XmlBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        LocalDateTime[] newest = new LocalDateTime[1];
+        try {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            boolean keep = body.write(xml, time -> {
+                if (time != null && (newest[0] == null || time.isAfter(newest[0]))) {
+                    newest[0] = time;
+                }
+            });
+            xml.writeEndDocument();
+            xml.close();
+            if (!keep) {
+                return null;
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("cannot write site feed xml", e);
+        }
+        byte[] bytes = out.toByteArray();
+        return new Document(bytes, HttpCompression.gzip(bytes), "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"",
+                newest[0]);
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        // lastModified로 본문에 담긴 가장 최근 수정 시각을 알림. false면 문서를 버림
+        boolean write(XMLStreamWriter xml, Consumer<LocalDateTime> lastModified)
+                throws XMLStreamException;
+    }
+
+    // 만들어 둔 XML 본문과 gzip 본문. updated는 담긴 항목 중 가장 최근 수정 시각(없으면 null)
+    public record Document(byte[] body, byte[] gzip, String etag, LocalDateTime updated) {
+    }
+}
@@ -0,0 +1,344 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import me.songsoyeon.springbootdeveloper.repository.RefreshTokenStore;
+import me.songsoyeon.springbootdeveloper.util.DatabaseProduct;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 글(article)과 유저(users) 전체를 바이너리 스냅샷 파일로 내보내고 다시 불러옴
+// 파일: [magic:int][version:short] 뒤에 섹션이 이어지고 섹션 태그 0으로 끝남
+// 섹션: [tag:byte] ([length:int][record])... [-1:int][count:long][crc32:int]
+// 경로가 .gz로 끝나면 gzip으로 압축
+// 불러오면 유저 id가 바뀌므로 리프레시 토큰과 토큰 폐기 기록도 함께 비우고, 커밋 뒤 SnapshotRestoredEvent로 캐시를 비우게 함
+@Slf4j
+@Service
+public class SnapshotService {
+
+    private static final int MAGIC = 0x53424453; // "SBDS"
+    private static final short VERSION = 1;
+    private static final byte ARTICLES = 'A';
+    private static final byte USERS = 'U';
+    private static final byte END = 0;
+    private static final int END_OF_SECTION = -1;
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+    private static final int BATCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SELECT_ARTICLES =
+            "SELECT id, title, content, author, created_at, updated_at FROM article ORDER BY id";
+    private static final String SELECT_USERS = "SELECT id, email, password, nickname FROM users ORDER BY id";
+    private static final String INSERT_ARTICLE =
+            "INSERT INTO article (id, title, content, author, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER = "INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 결과를 메모리에 다 올리지 않고 커서로 읽는 조회용
+    private final JdbcTemplate streamingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SnapshotService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           RefreshTokenStore refreshTokenStore, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.refreshTokenStore = refreshTokenStore;
+        this.eventPublisher = eventPublisher;
+        this.streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 행을 하나씩 스트리밍함
+        this.streamingTemplate.setFetchSize(DatabaseProduct.of(jdbcTemplate) == DatabaseProduct.MYSQL
+                ? Integer.MIN_VALUE
+                : 1000);
+    }
+
+    // 한 트랜잭션 안에서 읽어 글과 유저가 같은 시점의 데이터가 되도록 함
+    public Summary export(Path path) {
+        Summary summary = transactionTemplate.execute(status -> write(path));
+        log.info("snapshot exported to {}: {}", path, summary);
+        return summary;
+    }
+
+    private Summary write(Path path) {
+        long startedAt = System.currentTimeMillis();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(openOutput(path), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            long articles = writeSection(out, ARTICLES, SELECT_ARTICLES, (rs, record) -> {
+                record.writeLong(rs.getLong("id"));
+                writeString(record, rs.getString("title"));
+                writeString(record, rs.getString("content"));
+                writeString(record, rs.getString("author"));
+                writeDateTime(record, rs.getObject("created_at", LocalDateTime.class));
+                writeDateTime(record, rs.getObject("updated_at", LocalDateTime.class));
+            });
+            long users = writeSection(out, USERS, SELECT_USERS, (rs, record) -> {
+                record.writeLong(rs.getLong("id"));
+                writeString(record, rs.getString("email"));
+                writeString(record, rs.getString("password"));
+                writeString(record, rs.getString("nickname"));
+            });
+            out.writeByte(END);
+            out.close();
+
+            return new Summary(articles, users, Files.size(path), System.currentTimeMillis() - startedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to export snapshot: " + path, e);
+        }
+    }
+
+    // 한 트랜잭션으로 불러오므로 체크섬이 맞지 않거나 파일이 잘렸으면 아무것도 반영되지 않음
+    // replace가 false면 대상 테이블(유저 id를 참조하는 토큰 테이블 포함)이 비어 있어야 함
+    public Summary restore(Path path, boolean replace) {
+        long startedAt = System.currentTimeMillis();
+        long[] counts = transactionTemplate.execute(status -> {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(openInput(path), BUFFER_SIZE))) {
+                return restore(in, replace);
+            } catch (EOFException e) {
+                throw new IllegalStateException("truncated snapshot: " + path, e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to restore snapshot: " + path, e);
+            }
+        });
+        // MySQL에서 ALTER TABLE은 암묵적으로 커밋하므로 트랜잭션이 끝난 뒤에 실행
+        restartIdentity("article");
+        restartIdentity("users");
+        eventPublisher.publishEvent(SnapshotRestoredEvent.of(counts[0], counts[1]));
+
+        Summary summary = new Summary(counts[0], counts[1], sizeOf(path), System.currentTimeMillis() - startedAt);
+        log.info("snapshot restored from {}: {}", path, summary);
+        return summary;
+    }
+
+    public record Summary(long articles, long users, long bytes, long elapsedMillis) {
+    }
+
+    private long[] restore(DataInputStream in, boolean replace) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalStateException("not a snapshot file");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("unsupported snapshot version: " + version);
+        }
+        prepareTables(replace);
+
+        long[] counts = new long[2];
+        for (byte tag = in.readByte(); tag != END; tag = in.readByte()) {
+            switch (tag) {
+                case ARTICLES -> counts[0] = readSection(in, tag, INSERT_ARTICLE, record -> new Object[]{
+                        record.readLong(),
+                        readString(record),
+                        readString(record),
+                        readString(record),
+                        readDateTime(record),
+                        readDateTime(record)
+                });
+                case USERS -> counts[1] = readSection(in, tag, INSERT_USER, record -> new Object[]{
+                        record.readLong(),
+                        readString(record),
+                        readString(record),
+                        readString(record)
+                });
+                default -> throw new IllegalStateException("unknown snapshot section: " + tag);
+            }
+        }
+        return counts;
+    }
+
+    // 스냅샷의 유저는 원래 id 그대로 들어가므로, 기존 유저 id를 가리키던 토큰이 남으면 다른 유저의 토큰이 됨
+    // 메모리 리프레시 토큰 저장소는 트랜잭션에 묶이지 않아 불러오기가 실패해도 비워진 채로 남음 (다시 로그인하면 됨)
+    private void prepareTables(boolean replace) {
+        if (replace) {
+            refreshTokenStore.deleteAll();
+            jdbcTemplate.update("DELETE FROM token_revocation");
+            jdbcTemplate.update("DELETE FROM article");
+            jdbcTemplate.update("DELETE FROM users");
+            return;
+        }
+        Long existing = jdbcTemplate.queryForObject("SELECT (SELECT COUNT(*) FROM article) + (SELECT COUNT(*) FROM users)"
+                + " + (SELECT COUNT(*) FROM refresh_token) + (SELECT COUNT(*) FROM token_revocation)", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException(
+                    "article/users/token tables are not empty; restore with replace to overwrite");
+        }
+    }
+
+    private long writeSection(DataOutputStream out, byte tag, String sql, RowWriter writer) throws IOException {
+        RecordBuffer record = new RecordBuffer();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        CRC32 crc = new CRC32();
+        long[] count = {0};
+
+        out.writeByte(tag);
+        streamingTemplate.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                record.reset();
+                writer.write(rs, recordOut);
+                out.writeInt(record.size());
+                out.write(record.buffer(), 0, record.size());
+                crc.update(record.buffer(), 0, record.size());
+                count[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.writeInt(END_OF_SECTION);
+        out.writeLong(count[0]);
+        out.writeInt((int) crc.getValue());
+        return count[0];
+    }
+
+    private long readSection(DataInputStream in, byte tag, String sql, RowReader reader) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1024];
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long count = 0;
+
+        for (int length = in.readInt(); length != END_OF_SECTION; length = in.readInt()) {
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                throw new IllegalStateException("corrupt snapshot record length in section " + (char) tag + ": " + length);
+            }
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            in.readFully(buffer, 0, length);
+            crc.update(buffer, 0, length);
+            batch.add(reader.read(new DataInputStream(new ByteArrayInputStream(buffer, 0, length))));
+            count++;
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+
+        long expectedCount = in.readLong();
+        int expectedCrc = in.readInt();
+        if (expectedCount != count || expectedCrc != (int) crc.getValue()) {
+            throw new IllegalStateException("snapshot checksum mismatch in section " + (char) tag);
+        }
+        return count;
+    }
+
+    // 명시한 id로 넣었으므로 이후 새로 저장되는 행의 id가 겹치지 않게 맞춤
+    private void restartIdentity(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long next = (max == null ? 0 : max) + 1;
+        if (!DatabaseProduct.of(jdbcTemplate).restartIdentity(jdbcTemplate, table, next)) {
+            log.warn("cannot restart identity of {}; set it to {} manually", table, next);
+        }
+    }
+
+    private static OutputStream openOutput(Path path) throws IOException {
+        OutputStream out = Files.newOutputStream(path);
+        return isGzip(path) ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+    }
+
+    private static InputStream openInput(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        return isGzip(path) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    private static boolean isGzip(Path path) {
+        return path.getFileName().toString().endsWith(".gz");
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // 문자열: [byteLength:int][UTF-8 bytes], null이면 -1
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 날짜: [present:boolean][epochSecond:long][nano:int]. 서버 시간대와 관계없이 컬럼 값 그대로 옮김
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs, DataOutputStream record) throws SQLException, IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Object[] read(DataInputStream record) throws IOException;
+    }
+
+    // 레코드마다 새 배열을 만들지 않도록 내부 버퍼를 그대로 씀
+    private static class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(1024);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
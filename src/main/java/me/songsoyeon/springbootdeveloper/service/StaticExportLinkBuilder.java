@@ -0,0 +1,45 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 정적 내보내기용 링크 빌더
+// 요청 없이 렌더링하므로 컨텍스트 경로는 비어 있는 것으로 보고 @{/...}를 그대로 씀 (기본 빌더는 웹 컨텍스트가 아니면 예외)
+// 내보내는 화면은 파일 경로로, 정적 리소스는 그대로, 나머지(글 등록/수정, API)는 애플리케이션 주소로 바꿈
+class StaticExportLinkBuilder extends StandardLinkBuilder {
+
+    private static final Pattern ARTICLE = Pattern.compile("/articles/\\d+");
+    private static final Pattern LIST_PAGE = Pattern.compile("/articles/page/\\d+");
+    private static final Pattern ASSET = Pattern.compile("/(js|css|img)/.*");
+
+    private final String appBaseUrl;
+
+    StaticExportLinkBuilder(String appBaseUrl) {
+        this.appBaseUrl = appBaseUrl.replaceAll("/+$", "");
+    }
+
+    @Override
+    protected String computeContextPath(IExpressionContext context, String base, Map<String, Object> parameters) {
+        return "";
+    }
+
+    @Override
+    protected String processLink(IExpressionContext context, String link) {
+        if (!link.startsWith("/")) {
+            return link;
+        }
+        if (link.equals("/articles")) {
+            return "/articles/index.html";
+        }
+        if (ARTICLE.matcher(link).matches() || LIST_PAGE.matcher(link).matches()) {
+            return link + ".html";
+        }
+        if (ASSET.matcher(link).matches()) {
+            return link;
+        }
+        return appBaseUrl + link;
+    }
+}
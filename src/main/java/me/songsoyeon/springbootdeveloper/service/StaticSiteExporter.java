@@ -0,0 +1,456 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.songsoyeon.springbootdeveloper.config.StaticExportProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.dto.ArticleListViewResponse;
+import me.songsoyeon.springbootdeveloper.dto.ArticleViewResponse;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import me.songsoyeon.springbootdeveloper.repository.ArticleLastModified;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// 글 화면(/articles/{id})과 목록 화면(/articles, /articles/page/{n})을 기존 템플릿으로 렌더링해 정적 HTML 트리로 내보냄
+// 파일: articles/{id}.html, articles/index.html, articles/page/{n}.html, 그리고 정적 리소스(js, css, img)
+// 페이지마다 그 페이지가 보여 주는 글들의 (id, updatedAt) 해시를 매니페스트에 남기고,
+// 다음 내보내기에서는 해시가 바뀐 페이지만 다시 렌더링하고 없어진 페이지는 지움. 템플릿이 바뀌면 전체를 다시 렌더링
+// 정적 리소스도 파일마다 내용 해시를 남겨 바뀐 것만 다시 복사하고 없어진 것은 지움
+// 렌더링은 threads개 스레드가 LOAD_BATCH개씩 나눠 병렬로 처리
+@Slf4j
+@Component
+public class StaticSiteExporter implements DisposableBean {
+
+    static final String MANIFEST = ".manifest";
+    static final String ASSET_PREFIX = "asset\t";
+    private static final String ARTICLE_TEMPLATE = "article";
+    private static final String LIST_TEMPLATE = "articleList";
+    private static final String[] ASSET_DIRECTORIES = {"js", "css", "img"};
+    private static final int LOAD_BATCH = 500;
+
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate readOnly;
+    private final StaticExportProperties properties;
+    private final Path directory;
+    private final SpringTemplateEngine templateEngine;
+    private final ScheduledExecutorService rebuilder;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    // 한 번이라도 내보냈으면 이후 변경 이벤트마다 다시 내보냄
+    private volatile boolean exported;
+
+    public StaticSiteExporter(BlogRepository blogRepository, PlatformTransactionManager transactionManager,
+                              StaticExportProperties properties) {
+        this.blogRepository = blogRepository;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+        this.templateEngine = templateEngine(properties.getAppBaseUrl());
+        this.rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "static-export-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 바뀐 페이지만 렌더링. 처음이거나 템플릿이 바뀌었으면 전체 렌더링
+    public synchronized Result export() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            Files.createDirectories(directory);
+            String templates = templatesHash();
+            Manifest manifest = readManifest(templates);
+            Map<String, String> previous = manifest.pages();
+            Map<String, String> assets = new HashMap<>();
+            int copiedAssets = copyAssets(manifest.assets(), assets);
+
+            List<Stamp> stamps = stamps();
+            Map<String, String> pages = pageHashes(stamps);
+            List<Long> changedArticles = new ArrayList<>();
+            List<Integer> changedListPages = new ArrayList<>();
+            pages.forEach((page, hash) -> {
+                if (!hash.equals(previous.get(page))) {
+                    if (page.startsWith("articles/page/") || page.equals("articles/index.html")) {
+                        changedListPages.add(listPageNumber(page));
+                    } else {
+                        changedArticles.add(articleId(page));
+                    }
+                }
+            });
+
+            Set<String> missing = render(changedArticles, changedListPages, stamps);
+            int deleted = 0;
+            for (String page : previous.keySet()) {
+                if (!pages.containsKey(page)) {
+                    Files.deleteIfExists(directory.resolve(page));
+                    deleted++;
+                }
+            }
+            // 목록을 읽은 뒤 렌더링 전에 지워진 글은 매니페스트에서 빼 다음 내보내기에서 정리되게 함
+            pages.keySet().removeAll(missing);
+            writeManifest(templates, pages, assets);
+            exported = true;
+
+            int rendered = changedArticles.size() + changedListPages.size() - missing.size();
+            Result result = new Result(rendered, deleted, pages.size() - rendered, copiedAssets,
+                    System.currentTimeMillis() - startedAt);
+            log.info("static export to {}: {}", directory.toAbsolutePath(), result);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("static export failed: " + directory, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    // 바뀐 페이지는 매니페스트의 해시로 가려내므로 글 하나가 바뀔 때와 똑같이 다시 내보냄
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        scheduleRebuild();
+    }
+
+    private void scheduleRebuild() {
+        if (exported && rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.schedule(this::rebuild, properties.getRebuildDelay().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        try {
+            export();
+        } catch (RuntimeException e) {
+            // 매니페스트는 끝까지 성공했을 때만 바뀌므로 다음 변경 때 다시 시도됨
+            log.warn("static export rebuild failed", e);
+        }
+    }
+
+    // 모든 글의 (id, 수정 시각)을 id 순으로
+    private List<Stamp> stamps() {
+        return readOnly.execute(status -> {
+            try (Stream<ArticleLastModified> rows = blogRepository.streamLastModified(0, Long.MAX_VALUE)) {
+                return rows.map(row -> new Stamp(row.getId(), epochMicros(row.lastModified()))).toList();
+            }
+        });
+    }
+
+    // 페이지 파일 경로 -> 그 페이지가 보여 주는 글들의 (id, 수정 시각) 해시
+    private Map<String, String> pageHashes(List<Stamp> stamps) {
+        Map<String, String> pages = new HashMap<>(stamps.size() * 2);
+        for (Stamp stamp : stamps) {
+            pages.put(articlePath(stamp.id()), hash(stamp.id() + ":" + stamp.modified()));
+        }
+        int pageCount = listPageCount(stamps.size());
+        for (int page = 1; page <= pageCount; page++) {
+            StringBuilder members = new StringBuilder(page + (page < pageCount ? "+" : "") + "|");
+            for (Stamp stamp : listPage(stamps, page)) {
+                members.append(stamp.id()).append(':').append(stamp.modified()).append(',');
+            }
+            pages.put(listPath(page), hash(members.toString()));
+        }
+        return pages;
+    }
+
+    // 렌더링하지 못한(그 사이 지워진) 글 페이지 경로를 돌려줌
+    private Set<String> render(List<Long> articleIds, List<Integer> listPages, List<Stamp> stamps) {
+        Set<String> missing = ConcurrentHashMap.newKeySet();
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < articleIds.size(); from += LOAD_BATCH) {
+                List<Long> batch = articleIds.subList(from, Math.min(articleIds.size(), from + LOAD_BATCH));
+                futures.add(executor.submit(() -> renderArticles(batch, missing)));
+            }
+            int pageCount = listPageCount(stamps.size());
+            for (int page : listPages) {
+                List<Long> ids = listPage(stamps, page).stream().map(Stamp::id).toList();
+                futures.add(executor.submit(() -> renderListPage(page, pageCount, ids)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("static export failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("static export interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return missing;
+    }
+
+    private void renderArticles(List<Long> ids, Set<String> missing) {
+        Map<Long, Article> articles = new HashMap<>();
+        blogRepository.findAllById(ids).forEach(article -> articles.put(article.getId(), article));
+        for (Long id : ids) {
+            Article article = articles.get(id);
+            if (article == null) {
+                missing.add(articlePath(id));
+                continue;
+            }
+            Context context = new Context(Locale.getDefault());
+            context.setVariable("article", new ArticleViewResponse(article));
+            write(articlePath(id), ARTICLE_TEMPLATE, context);
+        }
+    }
+
+    // 목록은 렌더링 시점의 글로 채움. 그 사이 지워진 글은 빠지고, 다음 내보내기에서 해시가 달라 다시 렌더링됨
+    private void renderListPage(int page, int pageCount, List<Long> ids) {
+        List<ArticleListViewResponse> articles = blogRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Article::getId))
+                .map(ArticleListViewResponse::new)
+                .toList();
+        Context context = new Context(Locale.getDefault());
+        context.setVariable("articles", articles);
+        if (page > 1) {
+            context.setVariable("previousPage", page == 2 ? "/articles" : "/articles/page/" + (page - 1));
+        }
+        if (page < pageCount) {
+            context.setVariable("nextPage", "/articles/page/" + (page + 1));
+        }
+        write(listPath(page), LIST_TEMPLATE, context);
+    }
+
+    // 임시 파일에 쓴 뒤 옮겨, 동기화 도중에도 반쯤 쓴 파일이 보이지 않게 함
+    private void write(String page, String template, Context context) {
+        Path target = directory.resolve(page);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                templateEngine.process(template, context, writer);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write " + target, e);
+        }
+    }
+
+    // 클래스패스의 정적 리소스를 읽어 assets에 경로 -> 내용 해시를 채우고, 지난 매니페스트와 해시가 다르거나
+    // 파일이 없는 것만 복사. 지난번에 있었지만 이제 없는 리소스는 지움. 복사한 개수를 돌려줌
+    private int copyAssets(Map<String, String> previous, Map<String, String> assets) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        int copied = 0;
+        for (String assetDirectory : ASSET_DIRECTORIES) {
+            String root = "classpath:/static/" + assetDirectory + "/";
+            for (Resource resource : resolver.getResources(root + "**/*")) {
+                if (!resource.isReadable()) {
+                    continue;
+                }
+                String url = resource.getURL().toString();
+                String relative = url.substring(url.lastIndexOf("/static/" + assetDirectory + "/") + "/static/".length());
+                byte[] content;
+                try (InputStream in = resource.getInputStream()) {
+                    content = in.readAllBytes();
+                }
+                String hash = hash(content);
+                assets.put(relative, hash);
+                Path target = directory.resolve(relative);
+                if (hash.equals(previous.get(relative)) && Files.exists(target)) {
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                Files.write(target, content);
+                copied++;
+            }
+        }
+        for (String asset : previous.keySet()) {
+            if (!assets.containsKey(asset)) {
+                Files.deleteIfExists(directory.resolve(asset));
+            }
+        }
+        return copied;
+    }
+
+    // 매니페스트: 첫 줄은 템플릿 해시, 이후 "페이지 경로\t해시"와 "asset\t리소스 경로\t해시"
+    // 템플릿 해시가 다르면 페이지는 빈 것으로 봄. 리소스 해시는 템플릿과 상관없이 그대로 씀
+    private Manifest readManifest(String templates) throws IOException {
+        Path manifest = directory.resolve(MANIFEST);
+        Map<String, String> pages = new HashMap<>();
+        Map<String, String> assets = new HashMap<>();
+        if (!Files.exists(manifest)) {
+            return new Manifest(pages, assets);
+        }
+        List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return new Manifest(pages, assets);
+        }
+        boolean sameTemplates = lines.get(0).equals("templates\t" + templates);
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.startsWith(ASSET_PREFIX)) {
+                line = line.substring(ASSET_PREFIX.length());
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    assets.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (sameTemplates && tab > 0) {
+                pages.put(line.substring(0, tab), line.substring(tab + 1));
+            }
+        }
+        return new Manifest(pages, assets);
+    }
+
+    private void writeManifest(String templates, Map<String, String> pages, Map<String, String> assets)
+            throws IOException {
+        Path manifest = directory.resolve(MANIFEST);
+        Path temporary = directory.resolve(MANIFEST + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write("templates\t" + templates);
+            writer.newLine();
+            for (Map.Entry<String, String> page : new TreeMap<>(pages).entrySet()) {
+                writer.write(page.getKey() + "\t" + page.getValue());
+                writer.newLine();
+            }
+            for (Map.Entry<String, String> asset : new TreeMap<>(assets).entrySet()) {
+                writer.write(ASSET_PREFIX + asset.getKey() + "\t" + asset.getValue());
+                writer.newLine();
+            }
+        }
+        Files.move(temporary, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String templatesHash() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (String template : new String[]{ARTICLE_TEMPLATE, LIST_TEMPLATE}) {
+            try (InputStream in = getClass().getResourceAsStream("/templates/" + template + ".html")) {
+                if (in == null) {
+                    throw new IllegalStateException("template not found: " + template);
+                }
+                contents.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return hash(contents.toString());
+    }
+
+    private int listPageCount(int articles) {
+        return Math.max(1, (articles + listPageSize() - 1) / listPageSize());
+    }
+
+    private List<Stamp> listPage(List<Stamp> stamps, int page) {
+        int from = Math.min(stamps.size(), (page - 1) * listPageSize());
+        return stamps.subList(from, Math.min(stamps.size(), from + listPageSize()));
+    }
+
+    private int listPageSize() {
+        return Math.max(1, properties.getListPageSize());
+    }
+
+    private static String articlePath(long id) {
+        return "articles/" + id + ".html";
+    }
+
+    private static String listPath(int page) {
+        return page == 1 ? "articles/index.html" : "articles/page/" + page + ".html";
+    }
+
+    private static long articleId(String page) {
+        return Long.parseLong(page.substring("articles/".length(), page.length() - ".html".length()));
+    }
+
+    private static int listPageNumber(String page) {
+        return page.equals("articles/index.html")
+                ? 1
+                : Integer.parseInt(page.substring("articles/page/".length(), page.length() - ".html".length()));
+    }
+
+    private static long epochMicros(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static String hash(String value) {
+        return hash(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SpringTemplateEngine templateEngine(String appBaseUrl) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        engine.setLinkBuilder(new StaticExportLinkBuilder(appBaseUrl));
+        engine.setEnableSpringELCompiler(true);
+        return engine;
+    }
+
+    private record Stamp(long id, long modified) {
+    }
+
+    private record Manifest(Map<String, String> pages, Map<String, String> assets) {
+    }
+
+    // rendered: 이번에 렌더링한 페이지, deleted: 지운 페이지, unchanged: 해시가 같아 건너뛴 페이지
+    // copiedAssets: 새로 생겼거나 내용이 바뀌어 복사한 정적 리소스
+    public record Result(int rendered, int deleted, int unchanged, int copiedAssets, long elapsedMillis) {
+    }
+}
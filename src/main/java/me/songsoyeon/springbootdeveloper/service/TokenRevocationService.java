@@ -0,0 +1,157 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
+import me.songsoyeon.springbootdeveloper.domain.TokenRevocation;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import me.songsoyeon.springbootdeveloper.repository.TokenRevocationRepository;
+import me.songsoyeon.springbootdeveloper.util.BloomFilter;
+import me.songsoyeon.springbootdeveloper.util.DatabaseProduct;
+import me.songsoyeon.springbootdeveloper.util.HashedTimingWheel;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 액세스 토큰 폐기 목록
+// 요청마다 호출되므로 "폐기되지 않음"은 블룸 필터로 바로 답하고, 양성일 때만 정확한 맵을 확인함
+@Service
+public class TokenRevocationService {
+
+    // 폐기 기록은 발급 가능한 가장 긴 액세스 토큰 수명만큼만 유지
+    private static final Duration REVOCATION_TTL = OAuth2SuccessHandler.ACCESS_TOKEN_DURATION;
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final String H2_UPSERT =
+            "MERGE INTO token_revocation (user_id, revoked_at, expires_at) KEY (user_id) VALUES (?, ?, ?)";
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO token_revocation (user_id, revoked_at, expires_at) VALUES (?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE revoked_at = VALUES(revoked_at), expires_at = VALUES(expires_at)";
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    // 업서트를 지원하지 않는 데이터베이스면 null (트랜잭션 안에서 조회 후 저장으로 대체)
+    private final String upsertSql;
+    private final ConcurrentHashMap<Long, Revocation> revocations = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<Revocation> expirations;
+    // 쓰기(등록, 재구성)만 잠그고 읽기는 volatile 참조로 락 없이 처리
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter = new BloomFilter(MIN_EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    private int expiredSinceRebuild;
+    // 이 시각(초 단위로 내림) 이전에 발급된 토큰은 유저와 관계없이 폐기된 것으로 봄 (스냅샷 불러오기)
+    private volatile long revokedBeforeSeconds;
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository, JdbcTemplate jdbcTemplate) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertSql = switch (DatabaseProduct.of(jdbcTemplate)) {
+            case H2 -> H2_UPSERT;
+            case MYSQL -> MYSQL_UPSERT;
+            case OTHER -> null;
+        };
+        this.expirations = new HashedTimingWheel<>("token-revocation-expiry", Duration.ofSeconds(1), 1024, this::expire);
+    }
+
+    // 시작 시 만료되지 않은 폐기 기록을 DB에서 다시 읽어 메모리 상태 재구성
+    @PostConstruct
+    public void load() {
+        long now = System.currentTimeMillis();
+        tokenRevocationRepository.deleteExpired(now);
+        for (TokenRevocation revocation : tokenRevocationRepository.findByExpiresAtGreaterThan(now)) {
+            register(new Revocation(revocation.getUserId(), revocation.getRevokedAt(), revocation.getExpiresAt()));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        expirations.close();
+    }
+
+    // 지금까지 유저에게 발급된 액세스 토큰을 모두 폐기
+    // 같은 유저가 동시에 로그아웃해도 user_id 유니크 키에 걸리지 않도록 업서트 한 번으로 저장
+    @Transactional
+    public void revokeAll(Long userId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + REVOCATION_TTL.toMillis();
+        if (upsertSql != null) {
+            jdbcTemplate.update(upsertSql, userId, now, expiresAt);
+        } else {
+            TokenRevocation revocation = tokenRevocationRepository.findByUserId(userId)
+                    .map(entity -> entity.update(now, expiresAt))
+                    .orElse(new TokenRevocation(userId, now, expiresAt));
+            tokenRevocationRepository.save(revocation);
+        }
+        register(new Revocation(userId, now, expiresAt));
+    }
+
+    // 스냅샷을 불러오면 token_revocation 테이블이 비워지고 같은 id가 다른 유저를 가리킬 수 있음
+    // 메모리의 폐기 기록을 비우고, 그 전에 발급된 액세스 토큰은 모두 폐기된 것으로 봄
+    // 이 기준 시각은 저장하지 않지만 불러오기 전 토큰은 어차피 ACCESS_TOKEN_DURATION 안에 만료됨
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        synchronized (writeLock) {
+            revocations.clear();
+            rebuildBloomFilter();
+            revokedBeforeSeconds = event.getOccurredAt() / 1000 * 1000;
+        }
+    }
+
+    // 유효성 검증을 통과한 토큰의 클레임(유저 id, iat)으로 호출. 토큰을 다시 파싱하지 않음
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        if (issuedAt != null && issuedAt.getTime() <= revokedBeforeSeconds) {
+            return true;
+        }
+        if (userId == null || !bloomFilter.mightContain(userId)) {
+            return false;
+        }
+
+        Revocation revocation = revocations.get(userId);
+        if (revocation == null || revocation.expiresAt() <= System.currentTimeMillis()) {
+            return false;
+        }
+        // iat는 초 단위라 폐기 시각도 초 단위로 내림해 비교
+        // 폐기와 같은 초에 발급된 토큰은 폐기 전후를 구분할 수 없으므로 폐기된 것으로 봄
+        long revokedAtSeconds = revocation.revokedAt() / 1000 * 1000;
+        return issuedAt == null || issuedAt.getTime() <= revokedAtSeconds;
+    }
+
+    private void register(Revocation revocation) {
+        synchronized (writeLock) {
+            revocations.put(revocation.userId(), revocation);
+            if (revocations.size() > bloomFilter.getExpectedInsertions()) {
+                rebuildBloomFilter();
+            } else {
+                bloomFilter.put(revocation.userId());
+            }
+        }
+        expirations.schedule(revocation, revocation.expiresAt());
+    }
+
+    // 블룸 필터는 삭제가 안 되므로 만료된 항목이 쌓이면 남은 항목으로 다시 만듦
+    private void expire(Revocation revocation) {
+        synchronized (writeLock) {
+            if (!revocations.remove(revocation.userId(), revocation)) {
+                return;
+            }
+            expiredSinceRebuild++;
+            if (expiredSinceRebuild > revocations.size()) {
+                rebuildBloomFilter();
+            }
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(MIN_EXPECTED_INSERTIONS, revocations.size() * 2), FALSE_POSITIVE_RATE);
+        revocations.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        expiredSinceRebuild = 0;
+    }
+
+    private record Revocation(Long userId, long revokedAt, long expiresAt) {
+    }
+}
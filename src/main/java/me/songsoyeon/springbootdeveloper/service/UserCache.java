@@ -0,0 +1,142 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.UserCacheProperties;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import me.songsoyeon.springbootdeveloper.event.SnapshotRestoredEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// id와 email 두 키로 찾을 수 있는 유저 캐시
+// 유저 정보는 거의 바뀌지 않으므로 토큰 재발급, OAuth 로그인 경로의 유저 조회를 메모리에서 처리
+// 영속 엔티티를 여러 스레드가 공유하지 않도록 불변 스냅샷만 보관하고, 적중할 때마다 새 detached User를 만들어 돌려줌
+// 돌려받은 User를 수정해도 캐시에는 영향이 없으므로, 쓰기는 리포지토리로 다시 조회(또는 merge)해서 할 것
+// 저장/수정/삭제 시 UserCacheInvalidationListener가 무효화함
+@Component
+public class UserCache {
+
+    // JFR CacheAccessEvent에 기록되는 캐시 이름
+    static final String CACHE_NAME = "user";
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final ConcurrentHashMap<Long, Snapshot> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> idByEmail = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가. 조회 도중 무효화가 일어났으면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.maxSize = properties.getMaxSize();
+
+        FunctionCounter.builder("user.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("user.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("user.cache.hit.ratio", this, UserCache::hitRatio).register(meterRegistry);
+        Gauge.builder("user.cache.size", byId, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    public Optional<User> findById(Long id, Supplier<Optional<User>> loader) {
+        CacheAccessEvent event = CacheAccessEvent.begin(CACHE_NAME);
+        Snapshot cached = enabled ? byId.get(id) : null;
+        try {
+            return cached != null ? hit(cached) : load(loader);
+        } finally {
+            event.commit(id, cached != null);
+        }
+    }
+
+    public Optional<User> findByEmail(String email, Supplier<Optional<User>> loader) {
+        CacheAccessEvent event = CacheAccessEvent.begin(CACHE_NAME);
+        Long id = enabled ? idByEmail.get(email) : null;
+        Snapshot cached = id == null ? null : byId.get(id);
+        boolean hit = cached != null && email.equals(cached.email());
+        Optional<User> user = Optional.empty();
+        try {
+            user = hit ? hit(cached) : load(loader);
+            return user;
+        } finally {
+            // email은 개인정보이므로 기록하지 않고 유저 id로 남김 (없는 유저이거나 로딩에 실패하면 null)
+            event.commit(user.map(User::getId).orElse(null), hit);
+        }
+    }
+
+    public void evict(User user) {
+        invalidations.incrementAndGet();
+        if (user.getId() != null) {
+            byId.remove(user.getId());
+        }
+        if (user.getEmail() != null) {
+            idByEmail.remove(user.getEmail());
+        }
+    }
+
+    // 스냅샷을 불러오면 같은 id나 email이 다른 유저를 가리킬 수 있으므로 전부 비움
+    @EventListener
+    public void onSnapshotRestored(SnapshotRestoredEvent event) {
+        invalidations.incrementAndGet();
+        byId.clear();
+        idByEmail.clear();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private Optional<User> hit(Snapshot snapshot) {
+        hits.increment();
+        return Optional.of(snapshot.toUser());
+    }
+
+    private Optional<User> load(Supplier<Optional<User>> loader) {
+        misses.increment();
+        long stamp = invalidations.get();
+        Optional<User> loaded = loader.get();
+        if (enabled && loaded.isPresent() && invalidations.get() == stamp) {
+            put(loaded.get());
+        }
+        return loaded;
+    }
+
+    private void put(User user) {
+        if (byId.size() >= maxSize) {
+            evictOne();
+        }
+        byId.put(user.getId(), Snapshot.of(user));
+        idByEmail.put(user.getEmail(), user.getId());
+    }
+
+    // 용량을 넘으면 임의의 항목 하나를 내보냄
+    private void evictOne() {
+        Iterator<Snapshot> iterator = byId.values().iterator();
+        if (iterator.hasNext()) {
+            Snapshot victim = iterator.next();
+            iterator.remove();
+            idByEmail.remove(victim.email(), victim.id());
+        }
+    }
+
+    // 캐시에 보관하는 유저 필드 값
+    private record Snapshot(Long id, String email, String password, String nickname) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getEmail(), user.getPassword(), user.getNickname());
+        }
+
+        User toUser() {
+            return new User(id, email, password, nickname);
+        }
+    }
+}
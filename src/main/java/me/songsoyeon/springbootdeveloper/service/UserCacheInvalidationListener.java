@@ -0,0 +1,34 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// User 엔티티 리스너. 회원 가입, User.update()로 인한 변경, 삭제 시 유저 캐시 무효화
+@RequiredArgsConstructor
+@Component
+public class UserCacheInvalidationListener {
+
+    private final UserCache userCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        userCache.evict(user);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 넣을 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.evict(user);
+                }
+            });
+        }
+    }
+}
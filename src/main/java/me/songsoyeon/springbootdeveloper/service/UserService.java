@@ -4,31 +4,31 @@ import lombok.RequiredArgsConstructor;
 import me.songsoyeon.springbootdeveloper.domain.User;
 import me.songsoyeon.springbootdeveloper.dto.AddUserRequest;
 import me.songsoyeon.springbootdeveloper.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final PasswordHashService passwordHashService;
+    private final UserCache userCache;
 
     public Long save(AddUserRequest dto) {
-
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-
+        // 해싱은 전용 스레드 풀에서 처리(포화 시 503)
         return userRepository.save(User.builder()
                 .email(dto.getEmail())
-                .password(encoder.encode(dto.getPassword()))
+                .password(passwordHashService.encode(dto.getPassword()))
                 .build()).getId();
     }
 
+    // 캐시에 없을 때만 조회
     public User findById(Long userId) {
-        return userRepository.findById(userId)
+        return userCache.findById(userId, () -> userRepository.findById(userId))
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userCache.findByEmail(email, () -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
     }
 }
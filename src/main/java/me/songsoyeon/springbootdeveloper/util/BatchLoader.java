@@ -0,0 +1,184 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// 짧은 시간(window) 동안 들어온 서로 다른 키를 모아 batchFunction 한 번으로 조회 (DataLoader 방식)
+// 진행 중인 조회도 모으는 묶음도 없으면(한가할 때) 기다리지 않고 호출한 스레드에서 바로 조회하고,
+// 조회가 진행 중일 때 들어온 키만 모아서 첫 키 이후 window가 지나거나 maxBatchSize개가 모이면 묶음을 보냄
+// batchFunction 결과에 없는 키는 null로 돌려줌
+public class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService dispatcher;
+    private final Object lock = new Object();
+    // 현재 모으고 있는 묶음. 보내고 나면 새 묶음으로 교체
+    private Map<K, CompletableFuture<V>> pending;
+    // 보냈지만 아직 끝나지 않은 묶음 수. lock으로 보호
+    private int inFlight;
+    private final AtomicInteger dispatchedBatches = new AtomicInteger();
+
+    public BatchLoader(String name, Duration window, int maxBatchSize, Duration timeout,
+                       int dispatchThreads, Function<Collection<K>, Map<K, V>> batchFunction) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(Math.max(1, dispatchThreads), runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public V load(K key) {
+        return await(enqueue(List.of(key)).get(key));
+    }
+
+    // 요청 순서대로 결과를 돌려줌. 없는 키는 결과에서 빠짐
+    public List<V> loadAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = enqueue(keys);
+        List<V> values = new ArrayList<>(futures.size());
+        for (CompletableFuture<V> future : futures.values()) {
+            V value = await(future);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    // 지금까지 보낸 묶음 수 (= batchFunction 호출 수)
+    public int dispatchedBatches() {
+        return dispatchedBatches.get();
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+
+    private Map<K, CompletableFuture<V>> enqueue(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        List<Map<K, CompletableFuture<V>>> ready = new ArrayList<>();
+        boolean idle;
+
+        synchronized (lock) {
+            idle = pending == null && inFlight == 0;
+            for (K key : keys) {
+                if (futures.containsKey(key)) {
+                    continue;
+                }
+                if (pending == null) {
+                    Map<K, CompletableFuture<V>> batch = new HashMap<>();
+                    pending = batch;
+                    if (!idle) {
+                        dispatcher.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+                    }
+                }
+                futures.put(key, pending.computeIfAbsent(key, k -> new CompletableFuture<>()));
+                if (pending.size() >= maxBatchSize) {
+                    ready.add(pending);
+                    pending = null;
+                }
+            }
+            // 한가할 때는 함께 묶을 다른 요청이 없으므로 window를 기다리지 않음
+            if (idle && pending != null) {
+                ready.add(pending);
+                pending = null;
+            }
+            inFlight += ready.size();
+        }
+
+        // 가득 찬 묶음은 window를 기다리지 않고 바로 보냄. 한가할 때의 마지막 묶음은 어차피 기다릴 호출 스레드에서 조회
+        for (int i = 0; i < ready.size(); i++) {
+            Map<K, CompletableFuture<V>> batch = ready.get(i);
+            if (idle && i == ready.size() - 1) {
+                dispatch(batch);
+            } else {
+                dispatcher.execute(() -> dispatch(batch));
+            }
+        }
+        return futures;
+    }
+
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        synchronized (lock) {
+            // 이미 가득 차서 보낸 묶음이면 무시
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+            inFlight++;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        dispatchedBatches.incrementAndGet();
+        Map<K, V> loaded = null;
+        Throwable failure = null;
+        try {
+            loaded = batchFunction.apply(batch.keySet());
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        } finally {
+            // 결과를 넘기기 전에 줄여야 바로 다음 조회를 하는 스레드가 한가한 상태를 봄
+            synchronized (lock) {
+                inFlight--;
+            }
+        }
+        if (failure != null) {
+            Throwable cause = failure;
+            batch.values().forEach(future -> future.completeExceptionally(cause));
+            return;
+        }
+        Map<K, V> rows = loaded;
+        batch.forEach((key, future) -> future.complete(rows.get(key)));
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new TimeoutException("timed out waiting for batch load");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for batch load", e);
+        }
+    }
+
+    // 묶음 조회 결과를 timeout 안에 받지 못함
+    public static class TimeoutException extends RuntimeException {
+        public TimeoutException(String message) {
+            super(message);
+        }
+    }
+}
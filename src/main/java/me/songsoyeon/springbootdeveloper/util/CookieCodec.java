@@ -0,0 +1,10 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+// 객체를 쿠키 값 문자열로 변환하고 되돌리는 코덱
+public interface CookieCodec<T> {
+
+    String encode(T value);
+
+    // 형식이 맞지 않거나 서명이 틀린 값이면 null 반환
+    T decode(String cookieValue);
+}
@@ -0,0 +1,36 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 벤더별 SQL(업서트, identity 재설정 등)을 고르기 위한 데이터베이스 종류
+public enum DatabaseProduct {
+    H2,
+    MYSQL,
+    OTHER;
+
+    public static DatabaseProduct of(JdbcTemplate jdbcTemplate) {
+        String name = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        if ("H2".equalsIgnoreCase(name)) {
+            return H2;
+        }
+        if ("MySQL".equalsIgnoreCase(name)) {
+            return MYSQL;
+        }
+        return OTHER;
+    }
+
+    // id를 직접 넣은 뒤 다음 자동 생성 id가 next부터 시작하도록 맞춤. 지원하지 않는 데이터베이스면 false
+    public boolean restartIdentity(JdbcTemplate jdbcTemplate, String table, long next) {
+        switch (this) {
+            case H2 -> jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            case MYSQL -> jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 해시드 타이밍 휠: 만료 시각을 tick 단위 버킷에 나눠 담고, 매 tick마다 해당 버킷만 검사해 만료 처리
+// 등록/취소는 O(1)이고 만료 검사 비용은 버킷 크기에만 비례함
+@Slf4j
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout<T>>[] wheel;
+    private final Consumer<T> expiryHandler;
+    private final long startMillis;
+    private final ScheduledExecutorService ticker;
+
+    // ticker 스레드만 갱신하고, schedule()에서는 읽기만 함
+    private volatile long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int ticksPerWheel, Consumer<T> expiryHandler) {
+        if (tickDuration.toMillis() <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("tickDuration and ticksPerWheel must be positive");
+        }
+        this.tickMillis = tickDuration.toMillis();
+        int size = 1;
+        while (size < ticksPerWheel) { // 비트 마스크로 버킷을 찾도록 2의 거듭제곱으로 맞춤
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.expiryHandler = expiryHandler;
+        this.startMillis = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // deadlineMillis(epoch millis)가 지나면 expiryHandler로 item 전달
+    // 이미 처리 중인 버킷과 경합하면 최대 한 바퀴 늦게 만료될 수 있으므로, 조회하는 쪽에서도 만료 시각을 확인해야 함
+    public void schedule(T item, long deadlineMillis) {
+        long deadlineTick = (deadlineMillis - startMillis + tickMillis - 1) / tickMillis;
+        deadlineTick = Math.max(deadlineTick, processedTick + 1);
+        wheel[(int) (deadlineTick & mask)].add(new Timeout<>(item, deadlineTick));
+    }
+
+    private void tick() {
+        long targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+        while (processedTick < targetTick) {
+            long tick = processedTick + 1;
+            expireBucket(tick);
+            processedTick = tick;
+        }
+    }
+
+    private void expireBucket(long tick) {
+        Iterator<Timeout<T>> iterator = wheel[(int) (tick & mask)].iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            // 같은 버킷이라도 다음 바퀴 이후의 항목은 남겨둠
+            if (timeout.deadlineTick() > tick) {
+                continue;
+            }
+            iterator.remove();
+            try {
+                expiryHandler.accept(timeout.item());
+            } catch (RuntimeException e) {
+                log.warn("timing wheel expiry handler failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private record Timeout<T>(T item, long deadlineTick) {
+    }
+}
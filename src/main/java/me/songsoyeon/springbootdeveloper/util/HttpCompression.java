@@ -0,0 +1,36 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// 미리 압축해 두는 응답(글 JSON 캐시, 사이트맵/피드)과 압축 필터가 같이 쓰는 gzip 도우미
+public class HttpCompression {
+
+    // Accept-Encoding에 gzip이 있고 q=0이 아니면 true
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        for (var values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING); values.hasMoreElements(); ) {
+            for (String coding : values.nextElement().split(",")) {
+                String trimmed = coding.trim();
+                if (trimmed.startsWith("gzip") && !trimmed.replace(" ", "").endsWith(";q=0")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
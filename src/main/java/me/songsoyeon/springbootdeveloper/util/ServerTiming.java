@@ -0,0 +1,140 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import java.util.function.Supplier;
+
+// 요청 하나의 단계별(JWT 검증, DB 조회, DTO 변환, JSON 직렬화, 뷰 렌더링) 소요 시간 기록
+// begin()으로 요청 스레드에 붙어 있을 때만 기록하므로, 기능이 꺼져 있으면 start()/stop()은 ThreadLocal 조회 한 번뿐
+// 다른 스레드(배치 조회, 비동기 응답)에서 걸린 시간은 요청 스레드가 기다린 시간으로만 잡힘
+public final class ServerTiming {
+
+    public enum Phase {
+        JWT("jwt"),
+        DB("db"),
+        MAP("map"),
+        JSON("json"),
+        VIEW("view");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+
+    private ServerTiming() {
+    }
+
+    // 현재 스레드에서 기록 시작
+    public static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    // 기록 중이 아니면 0을 반환하고, stop()은 0을 받으면 아무것도 하지 않음
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(Phase phase, long startedAt) {
+        if (startedAt == 0L) {
+            return;
+        }
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    public static <T> T time(Phase phase, Supplier<T> supplier) {
+        long startedAt = start();
+        try {
+            return supplier.get();
+        } finally {
+            stop(phase, startedAt);
+        }
+    }
+
+    public void add(Phase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    // Server-Timing 헤더 값. 예) jwt;dur=0.41, db;dur=3.20, json;dur=0.88, total;dur=6.02
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder(96);
+        for (Phase phase : PHASES) {
+            if (counts[phase.ordinal()] > 0) {
+                header.append(phase.metricName()).append(";dur=");
+                appendMillis(header, nanos[phase.ordinal()]);
+                header.append(", ");
+            }
+        }
+        header.append("total;dur=");
+        appendMillis(header, elapsedNanos());
+        return header.toString();
+    }
+
+    // 로그용. 예) jwt=0.41ms db=3.20ms(2) json=0.88ms total=6.02ms
+    @Override
+    public String toString() {
+        StringBuilder breakdown = new StringBuilder(96);
+        for (Phase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count > 0) {
+                breakdown.append(phase.metricName()).append('=');
+                appendMillis(breakdown, nanos[phase.ordinal()]);
+                breakdown.append("ms");
+                if (count > 1) {
+                    breakdown.append('(').append(count).append(')');
+                }
+                breakdown.append(' ');
+            }
+        }
+        breakdown.append("total=");
+        appendMillis(breakdown, elapsedNanos());
+        return breakdown.append("ms").toString();
+    }
+
+    // 소수점 둘째 자리까지의 밀리초 (String.format 없이)
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long hundredths = Math.max(0, nanos) / 10_000;
+        builder.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+}
@@ -0,0 +1,71 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 같은 키에 대한 동시 조회를 하나로 합침
+// 먼저 온 요청(리더)만 loader를 실행하고, 그동안 들어온 요청은 리더의 결과(또는 예외)를 함께 받음
+// 캐시가 아니므로 로드가 끝나면 바로 잊고, 다음 요청은 다시 loader를 실행함
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    public SingleFlight(Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(key, existing);
+        }
+
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 현재 진행 중인 로드 수
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(K key, CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new TimeoutException("timed out waiting for in-flight load: " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for in-flight load: " + key, e);
+        }
+    }
+
+    // 리더의 로드를 timeout 안에 받지 못함
+    public static class TimeoutException extends RuntimeException {
+        public TimeoutException(String message) {
+            super(message);
+        }
+    }
+}
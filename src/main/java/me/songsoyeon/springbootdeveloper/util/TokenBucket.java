@@ -0,0 +1,43 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없는 토큰 버킷 (GCRA 방식)
+// 남은 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 이론적 시각(TAT)" 하나만 AtomicLong으로 관리
+// 허용은 CAS 한 번, 거절은 읽기 한 번과 산술 연산뿐이라 할당도 락도 없음
+public class TokenBucket {
+
+    private final long emissionIntervalNanos; // 토큰 하나가 채워지는 데 걸리는 시간
+    private final long capacityNanos;         // 버킷 용량을 시간으로 환산한 값
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.capacityNanos = emissionIntervalNanos * capacity;
+        // 처음에는 가득 찬 상태
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    // 토큰을 하나 꺼냄. 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 나노초 반환
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long overflow = newTat - nowNanos - capacityNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    // 버킷이 가득 찬 상태(한동안 쓰이지 않음)면 지워도 동작이 같음
+    public boolean isIdle(long nowNanos) {
+        return theoreticalArrivalTime.get() - nowNanos <= 0;
+    }
+}
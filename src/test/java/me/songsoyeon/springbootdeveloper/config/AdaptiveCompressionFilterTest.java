@@ -0,0 +1,227 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveCompressionFilterTest {
+
+    CompressionReport report;
+    AdaptiveCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        report = new CompressionReport();
+        filter = new AdaptiveCompressionFilter(new ResponseCompressionProperties(), report);
+    }
+
+    /*
+    given : Accept-Encoding: gzip 요청, 최소 크기(1KB)보다 큰 JSON 응답
+    when : 필터 통과
+    then : gzip으로 압축되고 풀면 원래 본문과 같으며 경로별 통계에 절약량이 남는지 확인
+    */
+    @DisplayName("adaptiveCompression: 큰 JSON 응답은 gzip으로 압축한다.")
+    @Test
+    void adaptiveCompression_large() throws Exception {
+        // given
+        String body = "{\"title\":\"title\",\"content\":\"content\"},".repeat(200);
+
+        // when
+        MockHttpServletResponse response = doFilter(MediaType.APPLICATION_JSON_VALUE, body, null);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        assertThat(report.routes()).singleElement().satisfies(route -> {
+            assertThat(route.compressed()).isEqualTo(1);
+            assertThat(route.bytesSaved()).isPositive();
+        });
+    }
+
+    /*
+    given : Accept-Encoding: gzip 요청, 최소 크기보다 작은 JSON 응답
+    when : 필터 통과
+    then : 압축하지 않고 그대로 나가는지 확인
+    */
+    @DisplayName("adaptiveCompression: 작은 응답은 압축하지 않는다.")
+    @Test
+    void adaptiveCompression_small() throws Exception {
+        // given
+        String body = "{\"title\":\"title\"}";
+
+        // when
+        MockHttpServletResponse response = doFilter(MediaType.APPLICATION_JSON_VALUE, body, null);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    /*
+    given : 컨트롤러가 이미 Content-Encoding: gzip으로 쓴 큰 응답 (캐시된 gzip 본문 등)
+    when : 필터 통과
+    then : 다시 압축하지 않고 바이트 그대로 나가는지 확인
+    */
+    @DisplayName("adaptiveCompression: 이미 인코딩된 응답은 다시 압축하지 않는다.")
+    @Test
+    void adaptiveCompression_alreadyEncoded() throws Exception {
+        // given
+        String body = "x".repeat(4096);
+
+        // when
+        MockHttpServletResponse response = doFilter(MediaType.APPLICATION_JSON_VALUE, body, "gzip");
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    /*
+    given : X-Warmup 헤더가 붙은 큰 JSON 응답 요청 두 개 (루프백, 외부 주소)
+    when : 필터 통과
+    then : 둘 다 압축되지만 통계에는 외부 주소에서 온 요청만 남는지 확인
+    */
+    @DisplayName("adaptiveCompression: 루프백에서 온 워밍업 요청은 압축 통계에 넣지 않는다.")
+    @Test
+    void adaptiveCompression_warmupExcludedFromReport() throws Exception {
+        // given
+        String body = "x".repeat(4096);
+        MockHttpServletRequest warmup = gzipRequest();
+        warmup.addHeader(WarmupRunner.WARMUP_HEADER, "true");
+        MockHttpServletRequest spoofed = gzipRequest();
+        spoofed.addHeader(WarmupRunner.WARMUP_HEADER, "true");
+        spoofed.setRemoteAddr("203.0.113.5");
+
+        // when
+        MockHttpServletResponse warmupResponse = doFilter(warmup, MediaType.APPLICATION_JSON_VALUE, body, null);
+        MockHttpServletResponse spoofedResponse = doFilter(spoofed, MediaType.APPLICATION_JSON_VALUE, body, null);
+
+        // then
+        assertThat(warmupResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(spoofedResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(report.routes()).singleElement()
+                .satisfies(route -> assertThat(route.responses()).isEqualTo(1));
+    }
+
+    /*
+    given : 리스너와 쓰기 가능 여부를 기록하는 원본 스트림, 본문 앞부분을 쓴 뒤 논블로킹 쓰기로 바꾸는 서블릿
+    when : 필터 통과
+    then : 예외 없이 리스너가 원본 스트림에 넘어가고, 앞부분은 압축하지 않고 나가며, isReady()가 원본 상태를 따르는지 확인
+    */
+    @DisplayName("adaptiveCompression: setWriteListener()는 원본 스트림에 넘기고 isReady()는 원본 상태를 따른다.")
+    @Test
+    void adaptiveCompression_writeListener() throws Exception {
+        // given
+        NonBlockingResponse response = new NonBlockingResponse();
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+        };
+        boolean[] readyAfterListener = new boolean[1];
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                ServletOutputStream out = resp.getOutputStream();
+                out.write("{\"title\":".getBytes(StandardCharsets.UTF_8));
+                out.setWriteListener(listener);
+                response.ready = false;
+                readyAfterListener[0] = out.isReady();
+            }
+        };
+
+        // when
+        filter.doFilter(gzipRequest(), response, new MockFilterChain(servlet));
+
+        // then
+        assertThat(response.listener).isSameAs(listener);
+        assertThat(readyAfterListener[0]).isFalse();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.written.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":");
+    }
+
+    private MockHttpServletResponse doFilter(String contentType, String body, String contentEncoding) throws Exception {
+        return doFilter(gzipRequest(), contentType, body, contentEncoding);
+    }
+
+    private static MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request, String contentType, String body,
+                                             String contentEncoding) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                if (contentEncoding != null) {
+                    resp.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+                }
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // 컨테이너의 논블로킹 출력 스트림 흉내. MockHttpServletResponse의 스트림은 setWriteListener()를 지원하지 않음
+    private static final class NonBlockingResponse extends MockHttpServletResponse {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private WriteListener listener;
+        private boolean ready = true;
+        private final ServletOutputStream stream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return ready;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                listener = writeListener;
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import jakarta.servlet.http.Cookie;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtFactory;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtProperties;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final JwtProperties jwtProperties = jwtProperties();
+    private final TokenProvider tokenProvider = new TokenProvider(jwtProperties);
+    private RateLimitFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        if (filter != null) {
+            filter.destroy();
+        }
+    }
+
+    /*
+    given : /api/token TOKEN 규칙 (토큰당 2회, IP당 3회)
+    when : 요청마다 서명이 다른 가짜 refresh_token 쿠키를 붙여 5번 요청
+    then : 가짜 쿠키로는 새 버킷을 받지 못하고 IP 한도에서 429, 버킷도 IP 하나만 생기는지 확인
+    */
+    @DisplayName("doFilter(): 검증되지 않은 쿠키를 바꿔가며 보내도 IP 한도로 제한한다.")
+    @Test
+    void doFilter_forgedCookies() throws Exception {
+        // given
+        filter = new RateLimitFilter(properties(true, 2, 3), tokenProvider);
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            statuses.add(perform("10.0.0.1", "header.payload." + UUID.randomUUID()));
+        }
+
+        // then
+        assertThat(statuses).containsExactly(200, 200, 200, 429, 429);
+        assertThat(filter.bucketCount()).isEqualTo(1);
+    }
+
+    /*
+    given : /api/token TOKEN 규칙 (토큰당 2회, IP당 10회)
+    when : 같은 IP에서 유효한 토큰 두 개로 각각 3번 요청
+    then : 토큰마다 2번까지만 허용되는지 확인
+    */
+    @DisplayName("doFilter(): 유효한 리프레시 토큰마다 따로 제한한다.")
+    @Test
+    void doFilter_validTokens() throws Exception {
+        // given
+        filter = new RateLimitFilter(properties(true, 2, 10), tokenProvider);
+        String first = refreshToken(1L);
+        String second = refreshToken(2L);
+
+        // when
+        List<Integer> firstStatuses = List.of(perform("10.0.0.1", first), perform("10.0.0.1", first), perform("10.0.0.1", first));
+        List<Integer> secondStatuses = List.of(perform("10.0.0.1", second), perform("10.0.0.1", second), perform("10.0.0.1", second));
+
+        // then
+        assertThat(firstStatuses).containsExactly(200, 200, 429);
+        assertThat(secondStatuses).containsExactly(200, 200, 429);
+    }
+
+    /*
+    given : /api/token TOKEN 규칙 (토큰당 10회, IP당 2회)
+    when : 한 IP에서 유효한 토큰을 바꿔가며 요청
+    then : 토큰 한도와 별개로 IP 한도에서 429와 Retry-After가 반환되는지 확인
+    */
+    @DisplayName("doFilter(): 토큰 규칙에도 IP 한도를 함께 적용한다.")
+    @Test
+    void doFilter_ipLimitAlwaysApplies() throws Exception {
+        // given
+        filter = new RateLimitFilter(properties(true, 10, 2), tokenProvider);
+
+        // when
+        perform("10.0.0.1", refreshToken(1L));
+        perform("10.0.0.1", refreshToken(2L));
+        MockHttpServletResponse rejected = request("10.0.0.1", refreshToken(3L));
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(perform("10.0.0.2", refreshToken(3L))).isEqualTo(200);
+    }
+
+    /*
+    given : rate-limit.enabled=false
+    when : 필터 생성
+    then : 정리 스레드를 만들지 않고 요청을 제한하지 않는지 확인
+    */
+    @DisplayName("RateLimitFilter(): 비활성화되어 있으면 정리 스레드를 띄우지 않는다.")
+    @Test
+    void disabled_noSweeper() throws Exception {
+        // given
+        long before = sweeperThreads();
+
+        // when
+        filter = new RateLimitFilter(properties(false, 1, 1), tokenProvider);
+
+        // then
+        assertThat(sweeperThreads()).isEqualTo(before);
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform("10.0.0.1", null)).isEqualTo(200);
+        }
+        assertThat(filter.bucketCount()).isZero();
+    }
+
+    // ./gradlew benchmark 로 실행. 한도를 넘은 요청을 거절하는 데 드는 평균 시간 (목표 1µs 미만)
+    @DisplayName("doFilter(): 거절 경로 비용")
+    @Tag("benchmark")
+    @Test
+    void benchmark_reject() throws Exception {
+        filter = new RateLimitFilter(properties(true, 1, 1), tokenProvider);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/token");
+        request.setRemoteAddr("10.0.0.1");
+        request.setCookies(new Cookie(OAuth2SuccessHandler.REFRESH_TOKEN_COOKIE_NAME, refreshToken(1L)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilterInternal(request, response, chain);
+        int iterations = 1_000_000;
+        for (int i = 0; i < iterations; i++) { // JIT 워밍업
+            filter.doFilterInternal(request, response, chain);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            filter.doFilterInternal(request, response, chain);
+        }
+        long nanosPerReject = (System.nanoTime() - start) / iterations;
+
+        System.out.printf("rate limit reject: %d ns/op%n", nanosPerReject);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(nanosPerReject).isLessThan(1_000);
+    }
+
+    private int perform(String ip, String cookie) throws Exception {
+        return request(ip, cookie).getStatus();
+    }
+
+    private MockHttpServletResponse request(String ip, String cookie) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/token");
+        request.setRemoteAddr(ip);
+        if (cookie != null) {
+            request.setCookies(new Cookie(OAuth2SuccessHandler.REFRESH_TOKEN_COOKIE_NAME, cookie));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private String refreshToken(Long userId) {
+        return JwtFactory.builder()
+                .claims(Map.of("id", userId))
+                .build()
+                .createToken(jwtProperties);
+    }
+
+    private static long sweeperThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("rate-limit-sweeper"))
+                .count();
+    }
+
+    private static RateLimitProperties properties(boolean enabled, long capacity, long ipCapacity) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPattern("/api/token");
+        route.setMethods(List.of("POST"));
+        route.setKey(RateLimitProperties.KeyType.TOKEN);
+        route.setCapacity(capacity);
+        route.setRefillPerSecond(0.001);
+        route.setIpCapacity(ipCapacity);
+        route.setIpRefillPerSecond(0.001);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setIdleSweepInterval(Duration.ofMinutes(1));
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("test@email.com");
+        properties.setSecretKey("rate-limit-test-secret");
+        return properties;
+    }
+}
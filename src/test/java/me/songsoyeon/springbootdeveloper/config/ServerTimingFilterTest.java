@@ -0,0 +1,76 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "server-timing.enabled=true")
+@AutoConfigureMockMvc
+class ServerTimingFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+    }
+
+    /*
+    given : server-timing.enabled=true, 글 하나 저장
+    when : JSON 목록 API 조회
+    then : Server-Timing 헤더에 DB 조회, DTO 변환, JSON 직렬화 시간과 전체 시간이 담기는지 확인
+    */
+    @DisplayName("Server-Timing: JSON 응답에 DB 조회, 변환, 직렬화 시간을 담는다.")
+    @Test
+    void serverTiming_json() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles").with(user("user")));
+
+        // then
+        String header = result.andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ServerTimingFilter.HEADER);
+        assertThat(header).contains("db;dur=", "map;dur=", "json;dur=", "total;dur=");
+    }
+
+    /*
+    given : server-timing.enabled=true, 글 하나 저장
+    when : 글 목록 화면 조회
+    then : 렌더링이 끝난 뒤에 헤더를 쓰므로 뷰 렌더링 시간까지 담기는지 확인
+    */
+    @DisplayName("Server-Timing: 화면 응답에 뷰 렌더링 시간까지 담는다.")
+    @Test
+    void serverTiming_view() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/articles"));
+
+        // then
+        String header = result.andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ServerTimingFilter.HEADER);
+        assertThat(header).contains("db;dur=", "view;dur=", "total;dur=");
+    }
+}
@@ -0,0 +1,136 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtFactory;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtProperties;
+import me.songsoyeon.springbootdeveloper.repository.TokenRevocationRepository;
+import me.songsoyeon.springbootdeveloper.service.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TokenAuthenticationFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    JwtProperties jwtProperties;
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+    @Autowired
+    TokenRevocationRepository tokenRevocationRepository;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationRepository.deleteAll();
+    }
+
+    /*
+    given : 유저 10의 액세스 토큰
+    when : 폐기 전후로 같은 토큰으로 인증이 필요한 API 요청
+    then : 폐기 전에는 200 OK, 폐기 후에는 401 Unauthorized인지 확인
+    */
+    @DisplayName("doFilterInternal(): 폐기된 유저의 토큰은 인증하지 않는다.")
+    @Test
+    void doFilterInternal_revoked() throws Exception {
+        // given
+        String token = accessToken(10L, new Date(System.currentTimeMillis() - 60_000));
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // when
+        tokenRevocationService.revokeAll(10L);
+
+        // then
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /*
+    given : 유저 11의 토큰을 폐기
+    when : 폐기 다음 초에 발급된 토큰과 다른 유저의 토큰으로 요청
+    then : 둘 다 인증되는지 확인 (폐기 목록은 해당 유저의 이전 토큰에만 적용)
+    */
+    @DisplayName("doFilterInternal(): 폐기 이후 발급된 토큰과 다른 유저의 토큰은 그대로 인증한다.")
+    @Test
+    void doFilterInternal_notRevoked() throws Exception {
+        // given
+        tokenRevocationService.revokeAll(11L);
+        long revokedAt = tokenRevocationRepository.findByUserId(11L).orElseThrow().getRevokedAt();
+
+        // when
+        String reissued = accessToken(11L, new Date(revokedAt / 1000 * 1000 + 1000));
+        String otherUser = accessToken(12L, new Date(revokedAt - 60_000));
+
+        // then
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + reissued))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/articles").header("Authorization", "Bearer " + otherUser))
+                .andExpect(status().isOk());
+    }
+
+    /*
+    given : 유저 13의 액세스 토큰으로 발급받은 SSE 티켓
+    when : Authorization 헤더 없이 ?ticket= 으로 SSE 경로를 요청하고, 같은 티켓과 액세스 토큰 자체로 다시 요청
+    then : 첫 연결만 인증되어 시간 제한 없는 비동기 스트림이 시작되고, 다시 쓴 티켓, 쿼리의 액세스 토큰, 일반 API의 티켓은 401인지 확인
+    */
+    @DisplayName("doFilterInternal(): EventSource용 일회용 티켓은 SSE 경로에서 한 번만 받고 액세스 토큰은 쿼리로 받지 않는다.")
+    @Test
+    void doFilterInternal_eventStreamTicket() throws Exception {
+        // given
+        String token = accessToken(13L, new Date(System.currentTimeMillis() - 60_000));
+        String ticket = ticket(token);
+
+        // when
+        MvcResult stream = mockMvc.perform(get("/api/articles/changes").param("ticket", ticket))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        assertThat(stream.getResponse().getStatus()).isEqualTo(200);
+        assertThat(stream.getRequest().getAsyncContext().getTimeout()).isLessThanOrEqualTo(0);
+        mockMvc.perform(get("/api/articles/changes").param("ticket", ticket))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles/changes"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles/changes").param("access_token", token))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/articles").param("ticket", ticket(token)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String ticket(String token) throws Exception {
+        String body = mockMvc.perform(post("/api/articles/changes/ticket").header("Authorization", "Bearer " + token))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(body).get("ticket").asText();
+    }
+
+    private String accessToken(Long userId, Date issuedAt) {
+        return JwtFactory.builder()
+                .issuedAt(issuedAt)
+                .claims(Map.of("id", userId))
+                .build()
+                .createToken(jwtProperties);
+    }
+}
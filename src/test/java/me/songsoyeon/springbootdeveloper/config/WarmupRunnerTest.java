@@ -0,0 +1,104 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class WarmupRunnerTest {
+
+    StaticApplicationContext context;
+    ApplicationAvailability availability;
+    WarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        context = new StaticApplicationContext();
+        context.registerSingleton("applicationAvailability", ApplicationAvailabilityBean.class);
+        context.refresh();
+        availability = context.getBean(ApplicationAvailability.class);
+        properties = new WarmupProperties();
+        properties.setIterations(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    /*
+    given : 트래픽을 받고 있던 컨텍스트, 단계마다 그 순간의 readiness를 기록하는 토큰 검증과 JSON 직렬화
+    when : 워밍업 실행
+    then : 모든 단계가 REFUSING_TRAFFIC에서 실행되고, 러너가 끝난 뒤에도 스스로 트래픽을 받기 시작하지 않는지 확인
+         (ACCEPTING_TRAFFIC은 모든 ApplicationRunner가 끝난 뒤 스프링 부트가 알림)
+    */
+    @DisplayName("run(): 워밍업이 끝날 때까지 readiness는 REFUSING_TRAFFIC이다.")
+    @Test
+    void run_refusesTrafficUntilFinished() {
+        // given
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+        List<ReadinessState> observed = new ArrayList<>();
+        TokenProvider tokenProvider = Mockito.mock(TokenProvider.class);
+        Mockito.when(tokenProvider.makeToken(any(Date.class), anyLong(), anyString())).thenReturn("token");
+        Mockito.when(tokenProvider.parseClaims("token")).thenAnswer(invocation -> {
+            observed.add(availability.getReadinessState());
+            return null;
+        });
+        ObjectMapper objectMapper = Mockito.spy(new ObjectMapper().findAndRegisterModules());
+        Mockito.doAnswer(invocation -> {
+            observed.add(availability.getReadinessState());
+            return invocation.callRealMethod();
+        }).when(objectMapper).writeValueAsBytes(any());
+
+        // when
+        runner(tokenProvider, objectMapper).run(null);
+
+        // then
+        assertThat(observed).hasSize(20 + 20 * 2).containsOnly(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+    }
+
+    /*
+    given : HTTP 단계는 끈 기본 설정
+    when : 템플릿 단계 실행
+    then : 요청 없이 목록/상세 템플릿을 반복 횟수만큼 모두 렌더링했는지 확인
+    */
+    @DisplayName("warmUpTemplates(): 루프백 요청 없이 목록/상세 템플릿을 렌더링한다.")
+    @Test
+    void warmUpTemplates_rendersWithoutRequests() {
+        // given
+        WarmupRunner runner = runner(Mockito.mock(TokenProvider.class), new ObjectMapper());
+
+        // when
+        int done = runner.warmUpTemplates(System.nanoTime() + 30_000_000_000L);
+
+        // then
+        assertThat(properties.isHttpEnabled()).isFalse();
+        assertThat(properties.isTemplatesEnabled()).isTrue();
+        assertThat(done).isEqualTo(20);
+    }
+
+    private WarmupRunner runner(TokenProvider tokenProvider, ObjectMapper objectMapper) {
+        return new WarmupRunner(properties, tokenProvider, Mockito.mock(TokenRevocationService.class), objectMapper,
+                Mockito.mock(BlogRepository.class), context);
+    }
+}
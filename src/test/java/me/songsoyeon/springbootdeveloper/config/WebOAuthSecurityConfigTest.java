@@ -0,0 +1,48 @@
+package me.songsoyeon.springbootdeveloper.config;
+
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtFactory;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WebOAuthSecurityConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    JwtProperties jwtProperties;
+
+    /*
+    given : 액세스 토큰 없는 요청과 유저 20의 액세스 토큰
+    when : /actuator/health, /actuator/compression 요청
+    then : health는 토큰 없이 200, 압축 리포트는 토큰 없으면 401이고 토큰이 있으면 200인지 확인
+    */
+    @DisplayName("filterChain(): 액추에이터는 health만 공개하고 압축 리포트는 인증을 요구한다.")
+    @Test
+    void filterChain_actuatorRequiresAuthentication() throws Exception {
+        // given
+        String token = JwtFactory.builder()
+                .claims(Map.of("id", 20L))
+                .build()
+                .createToken(jwtProperties);
+
+        // when, then
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/compression"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/compression").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,127 @@
+package me.songsoyeon.springbootdeveloper.config.oauth;
+
+import me.songsoyeon.springbootdeveloper.util.CookieUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizationRequestCookieCodecTest {
+
+    private static final int ITERATIONS = 20_000;
+
+    private final OAuth2AuthorizationRequestCookieCodec codec = new OAuth2AuthorizationRequestCookieCodec(
+            OAuth2AuthorizationRequestCookieCodec.deriveKey("test-secret"), true);
+
+    /*
+    given : 구글 로그인 시 실제로 만들어지는 형태의 인가 요청 생성
+    when : 코덱으로 인코딩한 뒤 다시 디코딩
+    then : 모든 필드가 원래 값과 같은지 확인
+    */
+    @DisplayName("encode()/decode(): 인가 요청을 쿠키 값으로 바꿨다가 그대로 복원할 수 있다.")
+    @Test
+    void roundTrip() {
+        // given
+        OAuth2AuthorizationRequest request = createAuthorizationRequest();
+
+        // when
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(request));
+
+        // then
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getAuthorizationUri()).isEqualTo(request.getAuthorizationUri());
+        assertThat(decoded.getClientId()).isEqualTo(request.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(decoded.getState()).isEqualTo(request.getState());
+        assertThat(decoded.getScopes()).isEqualTo(request.getScopes());
+        assertThat(decoded.getAdditionalParameters()).isEqualTo(request.getAdditionalParameters());
+        assertThat(decoded.getAttributes()).isEqualTo(request.getAttributes());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+    }
+
+    /*
+    given : 인코딩한 쿠키 값의 한 글자를 바꿈
+    when : 디코딩
+    then : 서명 검증에 실패해 null 반환
+    */
+    @DisplayName("decode(): 변조된 쿠키 값은 null을 반환한다.")
+    @Test
+    void decode_tampered() {
+        // given
+        String encoded = codec.encode(createAuthorizationRequest());
+        char[] chars = encoded.toCharArray();
+        chars[chars.length / 2] = chars[chars.length / 2] == 'A' ? 'B' : 'A';
+
+        // when
+        OAuth2AuthorizationRequest decoded = codec.decode(new String(chars));
+
+        // then
+        assertThat(decoded).isNull();
+    }
+
+    /*
+    given : 같은 인가 요청
+    when : 기존 방식(자바 직렬화 + Base64)과 새 코덱으로 각각 인코딩
+    then : 새 코덱의 쿠키가 더 작고, 그대로 디코딩되는지 확인
+    */
+    @DisplayName("encode(): 자바 직렬화보다 작은 쿠키를 만든다.")
+    @Test
+    void compareWithJavaSerialization() {
+        // given
+        OAuth2AuthorizationRequest request = createAuthorizationRequest();
+
+        // when
+        String before = CookieUtil.serialize(request);
+        String after = codec.encode(request);
+
+        // then
+        assertThat(after.length()).isLessThan(before.length());
+        assertThat(codec.decode(after).getState()).isEqualTo(request.getState());
+    }
+
+    // ./gradlew benchmark 로 실행. 쿠키 크기와 인코딩+디코딩 평균 시간을 출력
+    @DisplayName("encode()/decode(): 자바 직렬화와 크기, 처리 시간 비교")
+    @Tag("benchmark")
+    @Test
+    void benchmark_roundTrip() {
+        OAuth2AuthorizationRequest request = createAuthorizationRequest();
+        String before = CookieUtil.serialize(request);
+        String after = codec.encode(request);
+        long beforeNanos = measure(() -> SerializationUtils.deserialize(
+                Base64.getUrlDecoder().decode(CookieUtil.serialize(request))));
+        long afterNanos = measure(() -> codec.decode(codec.encode(request)));
+
+        System.out.printf("oauth2_auth_request cookie: java serialization %d bytes, %d ns/op -> codec %d bytes, %d ns/op%n",
+                before.length(), beforeNanos, after.length(), afterNanos);
+    }
+
+    private static long measure(Runnable codecRoundTrip) {
+        for (int i = 0; i < ITERATIONS; i++) { // JIT 워밍업
+            codecRoundTrip.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            codecRoundTrip.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static OAuth2AuthorizationRequest createAuthorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("123456789012-abcdefghijklmnopqrstuvwxyz012345.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("x9pLr0vQ3mZ2kD7wYbN4sT1uH6jC8eFaGiK5oRlUqVc=")
+                .additionalParameters(Map.of("nonce", "m2H0fVb8Qz1kR7yLpT3wXc5nS9dJ6aEg"))
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package me.songsoyeon.springbootdeveloper.config.oauth;
+
+import jakarta.persistence.EntityManagerFactory;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import me.songsoyeon.springbootdeveloper.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OAuth2UserCustomServiceTest {
+
+    @Autowired
+    OAuth2UserCustomService oAuth2UserCustomService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /*
+    given : 닉네임이 같은 유저가 이미 저장되어 있음
+    when : 같은 이메일, 같은 이름으로 OAuth2 로그인
+    then : 조회 한 번만 실행되고 유저 UPDATE는 실행되지 않는지 확인
+    */
+    @DisplayName("saveOrUpdate(): 바뀐 것이 없는 재로그인은 유저를 다시 쓰지 않는다.")
+    @Test
+    void saveOrUpdate_unchanged() {
+        // given
+        User saved = userRepository.save(User.builder().email("oauth@gmail.com").nickname("홍길동").build());
+        statistics.clear();
+
+        // when
+        User user = oAuth2UserCustomService.saveOrUpdate(oAuth2User("oauth@gmail.com", "홍길동"));
+
+        // then
+        assertThat(user.getId()).isEqualTo(saved.getId());
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /*
+    given : 유저가 저장되어 있음
+    when : 이름이 바뀐 채로 OAuth2 로그인
+    then : 닉네임을 UPDATE 한 번으로 바꾸는지 확인
+    */
+    @DisplayName("saveOrUpdate(): 이름이 바뀌었을 때만 유저를 업데이트한다.")
+    @Test
+    void saveOrUpdate_changed() {
+        // given
+        userRepository.save(User.builder().email("oauth@gmail.com").nickname("홍길동").build());
+        statistics.clear();
+
+        // when
+        User user = oAuth2UserCustomService.saveOrUpdate(oAuth2User("oauth@gmail.com", "임꺽정"));
+
+        // then
+        assertThat(user.getNickname()).isEqualTo("임꺽정");
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(userRepository.findByEmail("oauth@gmail.com")).get()
+                .extracting(User::getNickname).isEqualTo("임꺽정");
+    }
+
+    private static OAuth2User oAuth2User(String email, String name) {
+        return new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                Map.of("email", email, "name", name), "email");
+    }
+}
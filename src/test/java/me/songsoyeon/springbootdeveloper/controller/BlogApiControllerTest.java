@@ -1,6 +1,8 @@
 package me.songsoyeon.springbootdeveloper.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
 import me.songsoyeon.springbootdeveloper.domain.Article;
 import me.songsoyeon.springbootdeveloper.domain.User;
 import me.songsoyeon.springbootdeveloper.dto.AddArticleRequest;
@@ -19,6 +21,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
@@ -28,6 +31,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -171,6 +175,173 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.title").value(savedArticle.getTitle()));
     }
 
+    /*
+    Given : 블로그 글 저장
+    When : 저장한 블로그 글의 id 값으로 본문 조회 API 호출
+    Then : 응답 코드가 200 OK이고, text/plain 본문이 저장된 content와 같은지 확인
+    */
+    @DisplayName("findArticleContent: 블로그 글 본문을 text/plain으로 조회한다.")
+    @Test
+    public void findArticleContent() throws Exception {
+        // given
+        final String url = "/api/articles/{id}/content";
+        Article savedArticle = createDefaultArticle();
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId()));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(savedArticle.getContent()));
+    }
+
+    /*
+    블로그 글 여러 개 조회 테스트 코드
+    Given : 블로그 글 2개 저장
+    When : 저장한 글의 id와 없는 id를 ids 파라미터로 넘겨 조회 API 호출
+    Then : 응답 코드가 200 OK이고, 요청한 순서대로 있는 글만 반환되는지 확인
+    */
+    @DisplayName("findArticles: id 목록으로 블로그 글 여러 개 조회에 성공한다.")
+    @Test
+    public void findArticles() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article first = createDefaultArticle();
+        Article second = blogRepository.save(Article.builder()
+                .title("title2")
+                .author(user.getUsername())
+                .content("content2")
+                .build());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("ids", second.getId() + "," + first.getId() + ",-1"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value(second.getTitle()))
+                .andExpect(jsonPath("$[1].title").value(first.getTitle()));
+    }
+
+    /*
+    블로그 글 목록 바이너리 조회 테스트 코드
+    Given : 블로그 글 저장
+    When : Accept: application/cbor로 목록 조회 API 호출, Accept 없이 한 번 더 호출
+    Then : CBOR로 응답하고 디코딩한 내용이 저장한 글과 같은지, Accept가 없으면 JSON인지 확인
+    */
+    @DisplayName("findAllArticles: Accept에 따라 CBOR로 응답하고 기본은 JSON이다.")
+    @Test
+    public void findAllArticles_cbor() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article savedArticle = createDefaultArticle();
+
+        // when
+        MvcResult cborResult = mockMvc.perform(get(url).accept(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        MvcResult defaultResult = mockMvc.perform(get(url))
+                .andReturn();
+
+        // then
+        assertThat(cborResult.getResponse().getStatus()).isEqualTo(200);
+        assertThat(MediaType.parseMediaType(cborResult.getResponse().getContentType()))
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+        JsonNode articles = new CBORMapper().readTree(cborResult.getResponse().getContentAsByteArray());
+        assertThat(articles.size()).isEqualTo(1);
+        assertThat(articles.get(0).get("title").asText()).isEqualTo(savedArticle.getTitle());
+        assertThat(articles.get(0).get("content").asText()).isEqualTo(savedArticle.getContent());
+
+        assertThat(MediaType.parseMediaType(defaultResult.getResponse().getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON))
+                .isTrue();
+    }
+
+    /*
+    블로그 글 단일 조회 콘텐츠 협상 테스트 코드
+    Given : 블로그 글 저장
+    When : Accept 없이, application/cbor, application/xml로 각각 단일 조회 API 호출
+    Then : 기본은 JSON, CBOR 요청은 CBOR이고, 지원하지 않는 형식은 406인지 확인
+    */
+    @DisplayName("findArticle: Accept에 따라 JSON 또는 CBOR로 응답하고 지원하지 않는 형식은 406이다.")
+    @Test
+    public void findArticle_contentNegotiation() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+
+        // when
+        MvcResult defaultResult = mockMvc.perform(get(url, savedArticle.getId()))
+                .andReturn();
+        MvcResult cborResult = mockMvc.perform(get(url, savedArticle.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        ResultActions xmlResult = mockMvc.perform(get(url, savedArticle.getId()).accept(MediaType.APPLICATION_XML));
+
+        // then
+        assertThat(MediaType.parseMediaType(defaultResult.getResponse().getContentType()))
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(objectMapper.readTree(defaultResult.getResponse().getContentAsByteArray()).get("title").asText())
+                .isEqualTo(savedArticle.getTitle());
+        assertThat(MediaType.parseMediaType(cborResult.getResponse().getContentType()))
+                .isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(new CBORMapper().readTree(cborResult.getResponse().getContentAsByteArray()).get("title").asText())
+                .isEqualTo(savedArticle.getTitle());
+        xmlResult.andExpect(status().isNotAcceptable());
+    }
+
+    /*
+    블로그 글 필드 선택 조회 테스트 코드
+    Given : 블로그 글 저장
+    When : fields 파라미터로 id, title만 골라 목록 조회 API 호출
+    Then : 응답 코드가 200 OK이고, 고른 필드만 담겨 있는지 확인
+    */
+    @DisplayName("findAllArticleFields: 고른 필드만 담아 블로그 글 목록 조회에 성공한다.")
+    @Test
+    public void findAllArticleFields() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article savedArticle = createDefaultArticle();
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("fields", "title,id"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(savedArticle.getId()))
+                .andExpect(jsonPath("$[0].title").value(savedArticle.getTitle()))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(jsonPath("$[0].author").doesNotExist());
+    }
+
+    /*
+    블로그 글 필드 선택 조회 실패 테스트 코드
+    Given : 블로그 글 저장
+    When : 없는 필드 이름을 fields 파라미터로 넘겨 목록, 단건 조회 API 호출
+    Then : 응답 코드가 400 Bad Request인지 확인
+    */
+    @DisplayName("findAllArticleFields: 모르는 필드를 고르면 400을 반환한다.")
+    @Test
+    public void findAllArticleFields_unknownField() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article savedArticle = createDefaultArticle();
+
+        // when
+        final ResultActions listResult = mockMvc.perform(get(url)
+                .param("fields", "id,password"));
+        final ResultActions singleResult = mockMvc.perform(get(url + "/{id}", savedArticle.getId())
+                .param("fields", ""));
+
+        // then
+        listResult.andExpect(status().isBadRequest());
+        singleResult.andExpect(status().isBadRequest());
+    }
+
     /*
     블로그 글 삭제 테스트 코드
     Given : 블로그 글 저장
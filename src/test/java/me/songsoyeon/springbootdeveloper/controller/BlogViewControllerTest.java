@@ -0,0 +1,158 @@
+package me.songsoyeon.springbootdeveloper.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletResponse;
+import me.songsoyeon.springbootdeveloper.config.ServerTimingFilter;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.service.BlogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Server-Timing 필터까지 켜서 압축 필터와 함께 감싼 상태에서도 흘려보내는지 확인
+@SpringBootTest(properties = {"article.list-view.streaming=true", "article.list-view.page-size=2",
+        "server-timing.enabled=true"})
+@AutoConfigureMockMvc
+class BlogViewControllerTest {
+
+    private static final Pattern CARD_TITLE = Pattern.compile("<h5 class=\"card-title\">([^<]*)</h5>");
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @SpyBean
+    BlogService blogService;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    /*
+    given : 글 5개 저장, 페이지 크기 2
+    when : 글 목록 화면 조회
+    then : 페이지 3번에 나눠 읽어도 모든 글이 id 순으로 한 번씩 렌더링되고, 응답이 렌더링 도중 커밋되었는지 확인
+    */
+    @DisplayName("getArticles: 글 목록을 페이지 단위로 읽으며 렌더링한다.")
+    @Test
+    void getArticles_streaming() throws Exception {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+        }
+
+        // when
+        MvcResult result = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        StringBuilder titles = new StringBuilder();
+        Matcher matcher = CARD_TITLE.matcher(result.getResponse().getContentAsString());
+        while (matcher.find()) {
+            titles.append(matcher.group(1)).append(' ');
+        }
+        assertThat(titles.toString().trim()).isEqualTo("title1 title2 title3 title4 title5");
+        assertThat(result.getResponse().isCommitted()).isTrue();
+    }
+
+    /*
+    given : 글 5개 저장, 페이지 크기 2
+    when : 글 목록 화면을 렌더링하면서 페이지를 조회할 때마다 요청 스레드에 묶인 EntityManager가 있는지 기록
+    then : 세 번의 조회 모두 묶인 EntityManager가 없는지 확인
+         (open-in-view가 켜져 있으면 요청 동안 영속성 컨텍스트가 열려 조회한 엔티티가 계속 관리되고 커넥션도 붙잡힘)
+    */
+    @DisplayName("getArticles: 렌더링 도중 페이지 조회 사이에 영속성 컨텍스트를 열어 두지 않는다.")
+    @Test
+    void getArticles_noPersistenceContextWhileRendering() throws Exception {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+        }
+        List<Boolean> bound = new ArrayList<>();
+        doAnswer(invocation -> {
+            Object page = invocation.callRealMethod();
+            bound.add(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return page;
+        }).when(blogService).findPage(anyLong(), anyInt());
+
+        // when
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(bound).containsExactly(false, false, false);
+    }
+
+    /*
+    given : 글 5개 저장, 페이지 크기 2, Server-Timing 필터와 압축 필터 모두 켬
+    when : gzip을 받는 요청으로 글 목록 화면을 렌더링하면서 페이지를 조회할 때마다 응답이 커밋됐는지 기록
+    then : 세 번의 조회 모두 이미 커밋된 뒤이고(첫 flush가 필터에 붙잡히지 않음), 커밋 전까지 잰 Server-Timing 헤더가 남는지 확인
+    */
+    @DisplayName("getArticles: Server-Timing 필터가 켜져 있어도 렌더링 도중 flush를 미루지 않는다.")
+    @Test
+    void getArticles_streamingWithServerTiming() throws Exception {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+        }
+        List<Boolean> committed = new ArrayList<>();
+        doAnswer(invocation -> {
+            HttpServletResponse response =
+                    ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
+            committed.add(response.isCommitted());
+            return invocation.callRealMethod();
+        }).when(blogService).findPage(anyLong(), anyInt());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/articles").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertThat(committed).containsExactly(true, true, true);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(result.getResponse().getHeader(ServerTimingFilter.HEADER)).contains("total;dur=");
+    }
+}
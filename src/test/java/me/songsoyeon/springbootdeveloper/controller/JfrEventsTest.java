@@ -0,0 +1,257 @@
+package me.songsoyeon.springbootdeveloper.controller;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtFactory;
+import me.songsoyeon.springbootdeveloper.config.jwt.JwtProperties;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenValidationEvent;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import me.songsoyeon.springbootdeveloper.repository.ArticleProjection;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.service.ArticleRepositoryEvent;
+import me.songsoyeon.springbootdeveloper.service.BlogService;
+import me.songsoyeon.springbootdeveloper.service.CacheAccessEvent;
+import me.songsoyeon.springbootdeveloper.service.UserCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JfrEventsTest {
+
+    // 운영에서 쓰는 설정 파일. 테스트에서는 짧은 호출도 남도록 threshold만 0으로 덮어씀
+    private static final Path SETTINGS = Path.of("scripts/jfr/springboot-developer.jfc");
+    private static final List<String> EVENTS = List.of(
+            TokenValidationEvent.NAME, ArticleRepositoryEvent.NAME, CacheAccessEvent.NAME, ViewRenderEvent.NAME);
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserCache userCache;
+
+    @Autowired
+    BlogService blogService;
+
+    @TempDir
+    Path tempDir;
+
+    Recording recording;
+
+    @BeforeEach
+    void startRecording() throws Exception {
+        Configuration configuration = Configuration.create(SETTINGS);
+        recording = new Recording(configuration);
+        EVENTS.forEach(name -> recording.enable(name).withoutThreshold());
+        recording.start();
+    }
+
+    @AfterEach
+    void closeRecording() {
+        recording.close();
+    }
+
+    /*
+    given : 설정 파일로 레코딩 시작
+    when : 설정 파일 내용 확인
+    then : 애플리케이션 이벤트가 모두 켜져 있고 threshold가 지정돼 있는지 확인
+    */
+    @DisplayName("springboot-developer.jfc: 애플리케이션 이벤트를 모두 켠다.")
+    @Test
+    void settingsEnableApplicationEvents() throws Exception {
+        // when
+        Configuration configuration = Configuration.create(SETTINGS);
+
+        // then
+        for (String name : EVENTS) {
+            assertThat(configuration.getSettings()).containsEntry(name + "#enabled", "true");
+            assertThat(configuration.getSettings()).containsKey(name + "#threshold");
+        }
+    }
+
+    /*
+    given : 유효한 토큰과 만료된 토큰
+    when : 두 토큰 검증
+    then : 결과가 각각 VALID, EXPIRED인 TokenValidation 이벤트가 기록되는지 확인
+    */
+    @DisplayName("TokenValidationEvent: 토큰 검증 결과를 기록한다.")
+    @Test
+    void tokenValidationEvents() throws Exception {
+        // given
+        String validToken = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        tokenProvider.validToken(validToken);
+        tokenProvider.validToken(expiredToken);
+
+        // then
+        List<RecordedEvent> events = stopAndRead(TokenValidationEvent.NAME);
+        assertThat(events).extracting(event -> event.getString("result"))
+                .containsExactly("VALID", "EXPIRED");
+        assertThat(events).extracting(event -> event.getBoolean("valid"))
+                .containsExactly(true, false);
+    }
+
+    /*
+    given : 글 하나 저장
+    when : 글 상세 화면 조회
+    then : 글 조회(저장소 접근)와 article 뷰 렌더링 이벤트가 기록되는지 확인
+    */
+    @DisplayName("ArticleRepositoryEvent, ViewRenderEvent: 글 화면 조회 시 저장소 접근과 렌더링을 기록한다.")
+    @Test
+    void articleViewEvents() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+
+        // when
+        mockMvc.perform(get("/articles/" + article.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        List<RecordedEvent> repositoryEvents = stopAndRead(ArticleRepositoryEvent.NAME);
+        assertThat(repositoryEvents).anySatisfy(event -> {
+            assertThat(event.getString("operation")).isIn("findById", "findAllById");
+            assertThat(event.getLong("articleId")).isEqualTo(article.getId());
+            assertThat(event.getInt("rowCount")).isEqualTo(1);
+        });
+
+        List<RecordedEvent> viewEvents = read(ViewRenderEvent.NAME);
+        assertThat(viewEvents).anySatisfy(event -> {
+            assertThat(event.getString("view")).isEqualTo("article");
+            assertThat(event.getString("path")).isEqualTo("/articles/" + article.getId());
+        });
+    }
+
+    /*
+    given : 캐시에 없는 유저
+    when : 같은 유저를 두 번 조회
+    then : 미스 다음 적중 순서로 CacheAccess 이벤트가 기록되는지 확인
+    */
+    @DisplayName("CacheAccessEvent: 캐시 미스와 적중을 기록한다.")
+    @Test
+    void cacheAccessEvents() throws Exception {
+        // given
+        long userId = Long.MAX_VALUE - 1;
+        User user = User.builder()
+                .email("jfr@gmail.com")
+                .password("test")
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        // when
+        userCache.findById(userId, () -> Optional.of(user));
+        userCache.findById(userId, () -> Optional.of(user));
+        userCache.evict(user);
+
+        // then
+        List<RecordedEvent> events = stopAndRead(CacheAccessEvent.NAME);
+        assertThat(events).filteredOn(event -> String.valueOf(userId).equals(event.getString("key")))
+                .extracting(event -> event.getBoolean("hit"))
+                .containsExactly(false, true);
+        assertThat(events).allSatisfy(event -> assertThat(event.getString("cache")).isEqualTo("user"));
+    }
+
+    /*
+    given : 캐시에 없는 유저와, 조회 중 예외를 던지는 로더
+    when : email로 유저를 조회하고, 다른 email로 실패하는 조회를 함
+    then : 이벤트 key에 email 대신 유저 id가 남고, 실패한 조회도 이벤트가 기록되는지 확인
+    */
+    @DisplayName("CacheAccessEvent: email 조회는 유저 id로 기록하고 로더가 실패해도 기록한다.")
+    @Test
+    void cacheAccessEvents_byEmail() throws Exception {
+        // given
+        long userId = Long.MAX_VALUE - 2;
+        User user = User.builder()
+                .email("jfr-email@gmail.com")
+                .password("test")
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        // when
+        userCache.findByEmail("jfr-email@gmail.com", () -> Optional.of(user));
+        Throwable thrown = catchThrowable(() -> userCache.findByEmail("jfr-failed@gmail.com", () -> {
+            throw new IllegalStateException("loader failed");
+        }));
+        userCache.evict(user);
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        List<RecordedEvent> events = stopAndRead(CacheAccessEvent.NAME);
+        assertThat(events).extracting(event -> event.getString("key"))
+                .contains(String.valueOf(userId), "null")
+                .noneMatch(key -> key.contains("@"));
+    }
+
+    /*
+    given : projection 없이(null) 호출해 저장소 안에서 예외가 나는 조회
+    when : 조회
+    then : rowCount가 -1인 ArticleRepository 이벤트가 기록되는지 확인
+    */
+    @DisplayName("ArticleRepositoryEvent: 저장소 호출이 실패해도 기록한다.")
+    @Test
+    void articleRepositoryEvents_failure() throws Exception {
+        // when
+        Throwable thrown = catchThrowable(() -> blogService.findAll((ArticleProjection) null));
+
+        // then
+        assertThat(thrown).isNotNull();
+        List<RecordedEvent> events = stopAndRead(ArticleRepositoryEvent.NAME);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("operation")).isEqualTo("findAllProjected");
+            assertThat(event.getInt("rowCount")).isEqualTo(-1);
+        });
+    }
+
+    private List<RecordedEvent> stopAndRead(String name) throws Exception {
+        recording.stop();
+        return read(name);
+    }
+
+    private List<RecordedEvent> read(String name) throws Exception {
+        Path file = Files.createTempFile(tempDir, "recording", ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,148 @@
+package me.songsoyeon.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleResponseEncodingTest {
+
+    private static final String[] KOREAN_WORDS = {
+            "스프링", "부트", "개발", "블로그", "오늘", "정리", "공부", "코드", "서버", "데이터베이스",
+            "성능", "테스트", "배포", "프로젝트", "기록", "문제", "해결", "방법", "경험", "생각"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "boot", "developer", "blog", "today", "notes", "study", "code", "server", "database",
+            "performance", "test", "deploy", "project", "record", "problem", "solution", "approach", "lesson", "idea"
+    };
+    private static final TypeReference<List<Map<String, String>>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    /*
+    given : 글 목록 1000개 (한글 70%, 본문 길이는 중앙값 120자 로그 정규 분포, 최대 255자)
+    when : JSON, CBOR, Smile로 각각 인코딩 후 디코딩
+    then : 디코딩 결과가 원래 목록과 같고, 바이너리 형식의 크기가 JSON 이하인지 확인
+    */
+    @DisplayName("ArticleResponse 목록: CBOR, Smile은 JSON과 같은 값으로 왕복하고 크기는 JSON 이하다.")
+    @Test
+    void encodings_roundTripAndSize() throws Exception {
+        // given
+        List<ArticleResponse> articles = articles(1000, new SplittableRandom(42));
+        List<Map<String, String>> expected = articles.stream()
+                .map(article -> {
+                    Map<String, String> values = new LinkedHashMap<>();
+                    values.put("title", article.getTitle());
+                    values.put("content", article.getContent());
+                    return values;
+                })
+                .toList();
+
+        // when
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        mappers().forEach((format, mapper) -> encoded.put(format, encode(mapper, articles)));
+
+        // then
+        for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+            assertThat(entry.getValue().readValue(encoded.get(entry.getKey()), LIST_TYPE)).isEqualTo(expected);
+        }
+        int jsonBytes = encoded.get("json").length;
+        assertThat(encoded.get("cbor").length).isLessThanOrEqualTo(jsonBytes);
+        // Smile은 반복되는 필드 이름을 한 번만 쓰므로 목록에서 더 작음
+        assertThat(encoded.get("smile").length).isLessThan(jsonBytes);
+    }
+
+    // ./gradlew benchmark 로 실행. 형식별 크기와 인코딩/디코딩 스레드 CPU 시간을 표로 출력
+    @DisplayName("ArticleResponse 목록: JSON, CBOR, Smile의 크기와 인코딩/디코딩 CPU 시간 비교")
+    @Tag("benchmark")
+    @Test
+    void benchmark_compareEncodings() throws Exception {
+        List<ArticleResponse> articles = articles(1000, new SplittableRandom(42));
+        System.out.printf("%-6s %10s %14s %14s%n", "format", "bytes", "encode us/op", "decode us/op");
+        for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+            Result result = measure(entry.getValue(), articles, 200);
+            System.out.printf("%-6s %10d %14.1f %14.1f%n",
+                    entry.getKey(), result.bytes, result.encodeMicros, result.decodeMicros);
+        }
+    }
+
+    private static Map<String, ObjectMapper> mappers() {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", new ObjectMapper());
+        mappers.put("cbor", new CBORMapper());
+        mappers.put("smile", new SmileMapper());
+        return mappers;
+    }
+
+    private static byte[] encode(ObjectMapper mapper, List<ArticleResponse> articles) {
+        try {
+            return mapper.writeValueAsBytes(articles);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 앞 절반은 워밍업, 뒤 절반만 잼. 벽시계 대신 스레드 CPU 시간 사용
+    private static Result measure(ObjectMapper mapper, List<ArticleResponse> articles, int iterations) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        byte[] encoded = mapper.writeValueAsBytes(articles);
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long startedAt = threads.getCurrentThreadCpuTime();
+            encoded = mapper.writeValueAsBytes(articles);
+            long encodedAt = threads.getCurrentThreadCpuTime();
+            mapper.readValue(encoded, LIST_TYPE);
+            long decodedAt = threads.getCurrentThreadCpuTime();
+            if (i >= iterations / 2) {
+                encodeNanos += encodedAt - startedAt;
+                decodeNanos += decodedAt - encodedAt;
+            }
+        }
+        int measured = iterations - iterations / 2;
+        return new Result(encoded.length, encodeNanos / 1000.0 / measured, decodeNanos / 1000.0 / measured);
+    }
+
+    private static List<ArticleResponse> articles(int count, SplittableRandom random) {
+        List<ArticleResponse> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] words = random.nextDouble() < 0.7 ? KOREAN_WORDS : ENGLISH_WORDS;
+            int contentLength = (int) Math.max(1, Math.min(255, 120 * Math.exp(0.6 * random.nextGaussian())));
+            articles.add(new ArticleResponse(Article.builder()
+                    .author("user" + i + "@example.com")
+                    .title(text(words, 10 + random.nextInt(40), random))
+                    .content(text(words, contentLength, random))
+                    .build()));
+        }
+        return articles;
+    }
+
+    private static String text(String[] words, int length, SplittableRandom random) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(words[random.nextInt(words.length)]);
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private record Result(long bytes, double encodeMicros, double decodeMicros) {
+    }
+}
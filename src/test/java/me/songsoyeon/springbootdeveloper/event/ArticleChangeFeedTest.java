@@ -0,0 +1,120 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.ArticleFeedProperties;
+import me.songsoyeon.springbootdeveloper.dto.ArticleChangeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleChangeFeedTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        ArticleFeedProperties properties = new ArticleFeedProperties();
+        properties.setHistorySize(8);
+        properties.setSubscriberBufferSize(4);
+        properties.setHeartbeatInterval(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        feed = new ArticleChangeFeed(properties, meterRegistry);
+    }
+
+    /*
+    given : 글 변경 3건 발행
+    when : 첫 번째 변경의 id를 Last-Event-ID로 넘겨 구독
+    then : 놓친 두 번째, 세 번째 변경을 순서대로 받는지 확인
+    */
+    @DisplayName("subscribe(): Last-Event-ID 이후의 변경을 이어서 받는다.")
+    @Test
+    void subscribe_resumesFromLastEventId() {
+        // given
+        long first = publishAndGetSeq(1L);
+        publish(ArticleChangedEvent.Type.UPDATED, 1L);
+        publish(ArticleChangedEvent.Type.DELETED, 2L);
+
+        // when
+        List<ServerSentEvent<ArticleChangeResponse>> events = feed.subscribe(first)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("updated", "deleted");
+        assertThat(events).extracting(ServerSentEvent::id)
+                .containsExactly(String.valueOf(first + 1), String.valueOf(first + 2));
+    }
+
+    /*
+    given : 보관 개수(8)보다 많은 변경 발행
+    when : 이미 버려진 오래된 seq를 Last-Event-ID로 넘겨 구독
+    then : 목록을 다시 불러오라는 RESET을 받는지 확인
+    */
+    @DisplayName("subscribe(): 보관하지 않은 변경부터 이어 받으려 하면 RESET을 받는다.")
+    @Test
+    void subscribe_resetsWhenHistoryIsGone() {
+        // given
+        long first = publishAndGetSeq(1L);
+        for (long id = 2; id <= 20; id++) {
+            publish(ArticleChangedEvent.Type.CREATED, id);
+        }
+
+        // when
+        ServerSentEvent<ArticleChangeResponse> event = feed.subscribe(first)
+                .blockFirst(Duration.ofSeconds(5));
+
+        // then
+        assertThat(event.data().getType()).isEqualTo(ArticleChangeResponse.RESET);
+        assertThat(event.data().getSeq()).isEqualTo(first + 19);
+    }
+
+    /*
+    given : 변경을 전혀 요청(request)하지 않는 느린 구독자
+    when : 버퍼보다 훨씬 많은 변경 발행
+    then : 느린 구독자만 끊기고 dropped 카운터가 증가하는지 확인
+    */
+    @DisplayName("onArticleChanged(): 버퍼가 넘친 느린 구독자는 끊는다.")
+    @Test
+    void onArticleChanged_dropsSlowSubscriber() {
+        // given
+        BaseSubscriber<ServerSentEvent<ArticleChangeResponse>> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // 요청하지 않음
+            }
+        };
+        feed.subscribe(null).subscribe(slow);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        // when
+        for (long id = 1; id <= 100; id++) {
+            publish(ArticleChangedEvent.Type.CREATED, id);
+        }
+
+        // then
+        assertThat(feed.subscriberCount()).isZero();
+        assertThat(meterRegistry.counter("article.feed.dropped").count()).isEqualTo(1);
+        slow.dispose();
+    }
+
+    private long publishAndGetSeq(Long articleId) {
+        ServerSentEvent<ArticleChangeResponse> latest = feed.subscribe(null)
+                .doOnSubscribe(subscription -> publish(ArticleChangedEvent.Type.CREATED, articleId))
+                .blockFirst(Duration.ofSeconds(5));
+        return latest.data().getSeq();
+    }
+
+    private void publish(ArticleChangedEvent.Type type, Long articleId) {
+        feed.onArticleChanged(ArticleChangedEvent.of(type, articleId));
+    }
+}
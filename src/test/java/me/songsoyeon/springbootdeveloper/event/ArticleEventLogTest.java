@@ -0,0 +1,186 @@
+package me.songsoyeon.springbootdeveloper.event;
+
+import me.songsoyeon.springbootdeveloper.config.ArticleEventLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ArticleEventLogTest {
+
+    @TempDir
+    Path directory;
+
+    /*
+    given : 세그먼트 하나에 레코드 100개가 들어가고 세그먼트를 3개까지 보관하는 로그
+    when : 레코드 550개 기록
+    then : 세그먼트가 넘어가면서 오래된 세그먼트가 지워지고, 남은 레코드를 순서대로 읽을 수 있는지 확인
+    */
+    @DisplayName("append(): 세그먼트를 넘기고 보관 개수를 넘은 세그먼트는 지운다.")
+    @Test
+    void append_rollsAndRetainsSegments() throws Exception {
+        // given
+        ArticleEventLog eventLog = new ArticleEventLog(properties(3));
+
+        // when
+        for (long id = 1; id <= 550; id++) {
+            eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.UPDATED, id));
+        }
+
+        // then
+        List<ArticleEventRecord> records = eventLog.read(0, 1000);
+        assertThat(records).hasSize(250);
+        assertThat(records.get(0).getArticleId()).isEqualTo(301);
+        assertThat(records.get(249).getArticleId()).isEqualTo(550);
+        assertThat(records.get(0).getOffset()).isEqualTo(eventLog.firstOffset());
+        assertThat(records.get(249).getNextOffset()).isEqualTo(eventLog.endOffset());
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".log")).count()).isEqualTo(3);
+        }
+        eventLog.destroy();
+    }
+
+    /*
+    given : 레코드를 기록한 뒤 닫은 로그
+    when : 같은 디렉터리로 로그를 다시 열고 이어서 기록
+    then : 기존 레코드와 새 레코드가 끊김 없이 이어지는지 확인
+    */
+    @DisplayName("ArticleEventLog(): 다시 열면 마지막 레코드 뒤부터 이어서 기록한다.")
+    @Test
+    void reopen_continuesAfterLastRecord() throws Exception {
+        // given
+        ArticleEventLog eventLog = new ArticleEventLog(properties(8));
+        eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, 1L));
+        eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.DELETED, 1L));
+        long end = eventLog.endOffset();
+        eventLog.destroy();
+
+        // when
+        ArticleEventLog reopened = new ArticleEventLog(properties(8));
+        long offset = reopened.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, 2L));
+
+        // then
+        assertThat(offset).isEqualTo(end);
+        assertThat(reopened.read(0, 10))
+                .extracting(ArticleEventRecord::getType)
+                .containsExactly(ArticleChangedEvent.Type.CREATED, ArticleChangedEvent.Type.DELETED,
+                        ArticleChangedEvent.Type.CREATED);
+        reopened.destroy();
+    }
+
+    /*
+    given : 로그 처음부터 따라 읽는 tailer
+    when : 레코드 1000개 기록
+    then : tailer가 모든 레코드를 순서대로 받고 offset이 로그 끝까지 왔는지 확인
+    */
+    @DisplayName("tail(): 새로 기록되는 레코드를 순서대로 전달한다.")
+    @Test
+    void tail_followsAppends() throws Exception {
+        // given
+        ArticleEventLog eventLog = new ArticleEventLog(properties(100));
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1000);
+        ArticleEventLog.Tailer tailer = eventLog.tail("test", eventLog.firstOffset(), record -> {
+            received.add(record.getArticleId());
+            done.countDown();
+        });
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, id));
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(1000);
+        assertThat(received.get(999)).isEqualTo(1000L);
+        assertThat(tailer.offset()).isEqualTo(eventLog.endOffset());
+        tailer.close();
+        eventLog.destroy();
+    }
+
+    /*
+    given : 이미 열려 있는 로그
+    when : 같은 디렉터리로 로그를 하나 더 열고, 먼저 연 로그를 닫은 뒤 다시 엶
+    then : 열려 있는 동안은 실패하고 기존 레코드도 그대로이며, 닫은 뒤에는 열리는지 확인
+    */
+    @DisplayName("ArticleEventLog(): 다른 인스턴스가 쓰고 있는 디렉터리는 열지 않는다.")
+    @Test
+    void open_rejectsDirectoryInUse() throws Exception {
+        // given
+        ArticleEventLog eventLog = new ArticleEventLog(properties(8));
+        eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, 1L));
+
+        // when
+        Throwable thrown = catchThrowable(() -> new ArticleEventLog(properties(8)));
+        eventLog.destroy();
+        ArticleEventLog reopened = new ArticleEventLog(properties(8));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already in use");
+        assertThat(reopened.read(0, 10)).extracting(ArticleEventRecord::getArticleId).containsExactly(1L);
+        reopened.destroy();
+    }
+
+    /*
+    given : 레코드 500개가 쌓인 로그와, 첫 레코드를 받은 채 멈춰 있어 한참 뒤처진 tailer
+    when : 로그를 닫은 뒤 tailer를 풀어 주고, 닫힌 로그를 다시 읽음
+    then : tailer 스레드가 끝나고 나머지 레코드를 다 받지 않으며, 닫힌 로그 읽기는 멈추지 않고 빈 목록을 돌려주는지 확인
+    */
+    @DisplayName("destroy(): 뒤처진 tailer를 멈추고, 닫힌 로그 읽기는 끝없이 돌지 않는다.")
+    @Test
+    void destroy_stopsLaggingTailer() throws Exception {
+        // given
+        ArticleEventLog eventLog = new ArticleEventLog(properties(8));
+        for (long id = 1; id <= 500; id++) {
+            eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, id));
+        }
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ArticleEventLog.Tailer tailer = eventLog.tail("lagging", eventLog.firstOffset(), record -> {
+            received.add(record.getArticleId());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        eventLog.destroy();
+        release.countDown();
+        List<ArticleEventRecord> afterClose = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> eventLog.read(0, 1000));
+
+        // then
+        assertThat(tailer.awaitTermination(5000)).isTrue();
+        assertThat(received).hasSizeLessThan(500);
+        assertThat(afterClose).isEmpty();
+        assertThat(catchThrowable(() -> eventLog.append(ArticleChangedEvent.of(ArticleChangedEvent.Type.CREATED, 501L))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ArticleEventLogProperties properties(int retainedSegments) {
+        ArticleEventLogProperties properties = new ArticleEventLogProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofBytes(ArticleEventLog.RECORD_SIZE * 100L));
+        properties.setRetainedSegments(retainedSegments);
+        return properties;
+    }
+}
@@ -0,0 +1,155 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import me.songsoyeon.springbootdeveloper.config.RefreshTokenStoreProperties;
+import me.songsoyeon.springbootdeveloper.domain.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    @TempDir
+    Path directory;
+
+    /*
+    given : 유저 1의 리프레시 토큰 저장
+    when : 같은 유저로 새 토큰 저장
+    then : 새 토큰으로만 조회되고, 삭제하면 조회되지 않는지 확인
+    */
+    @DisplayName("save(): 유저의 토큰을 새 토큰으로 교체하고 deleteByUserId()로 지운다.")
+    @Test
+    void save_replacesAndDeletes() throws Exception {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(properties(null));
+        store.save(1L, "old.token", Duration.ofMinutes(1));
+
+        // when
+        store.save(1L, "new.token", Duration.ofMinutes(1));
+
+        // then
+        assertThat(store.findByRefreshToken("old.token")).isEmpty();
+        assertThat(store.findByRefreshToken("new.token")).get()
+                .extracting(RefreshToken::getUserId, RefreshToken::getRefreshToken)
+                .containsExactly(1L, "new.token");
+        store.deleteByUserId(1L);
+        assertThat(store.findByRefreshToken("new.token")).isEmpty();
+        store.destroy();
+    }
+
+    /*
+    given : 수명이 50ms인 토큰 저장
+    when : 수명이 지날 때까지 기다림
+    then : 만료된 토큰은 조회되지 않는지 확인
+    */
+    @DisplayName("findByRefreshToken(): 수명이 지난 토큰은 조회되지 않는다.")
+    @Test
+    void findByRefreshToken_expired() throws Exception {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(properties(null));
+        store.save(1L, "short.lived", Duration.ofMillis(50));
+        assertThat(store.findByRefreshToken("short.lived")).isPresent();
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertThat(store.findByRefreshToken("short.lived")).isEmpty();
+        store.destroy();
+    }
+
+    /*
+    given : 스냅샷 파일을 쓰는 저장소에 토큰 두 개를 저장하고 하나를 삭제한 뒤 닫음
+    when : 같은 스냅샷 파일로 저장소를 다시 엶
+    then : 남은 토큰만 복원되고, 파일에는 토큰 원문이 없는지 확인
+    */
+    @DisplayName("InMemoryRefreshTokenStore(): 스냅샷을 재생해 복원하고 파일에는 다이제스트만 남긴다.")
+    @Test
+    void snapshot_replay() throws Exception {
+        // given
+        Path snapshot = directory.resolve("refresh-tokens.log");
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(properties(snapshot));
+        store.save(1L, "token.of.user1", Duration.ofMinutes(1));
+        store.save(2L, "token.of.user2", Duration.ofMinutes(1));
+        store.deleteByUserId(2L);
+        store.destroy();
+
+        // when
+        InMemoryRefreshTokenStore reopened = new InMemoryRefreshTokenStore(properties(snapshot));
+
+        // then
+        assertThat(reopened.findByRefreshToken("token.of.user1")).get()
+                .extracting(RefreshToken::getUserId).isEqualTo(1L);
+        assertThat(reopened.findByRefreshToken("token.of.user2")).isEmpty();
+        String content = Files.readString(snapshot, StandardCharsets.UTF_8);
+        assertThat(content).doesNotContain("token.of.user1", "token.of.user2");
+        assertThat(content).contains(InMemoryRefreshTokenStore.digest("token.of.user1"));
+        reopened.destroy();
+    }
+
+    /*
+    given : 토큰 원문을 기록하던 이전 형식의 스냅샷 파일
+    when : 저장소를 엶
+    then : 토큰이 복원되고 파일은 다이제스트로 다시 써지는지 확인
+    */
+    @DisplayName("InMemoryRefreshTokenStore(): 토큰 원문이 든 이전 스냅샷도 읽어서 다이제스트로 바꾼다.")
+    @Test
+    void snapshot_migratesPlaintext() throws Exception {
+        // given
+        Path snapshot = directory.resolve("refresh-tokens.log");
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        Files.writeString(snapshot, "S\t1\t" + expiresAt + "\tlegacy.jwt.token\n", StandardCharsets.UTF_8);
+
+        // when
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(properties(snapshot));
+
+        // then
+        assertThat(store.findByRefreshToken("legacy.jwt.token")).isPresent();
+        assertThat(Files.readString(snapshot, StandardCharsets.UTF_8)).doesNotContain("legacy.jwt.token");
+        store.destroy();
+    }
+
+    /*
+    given : 1KB를 넘으면 스냅샷을 다시 쓰는 저장소
+    when : 같은 유저의 토큰을 1000번 교체
+    then : 파일이 계속 커지지 않고, 다시 열어도 마지막 토큰이 복원되는지 확인
+    */
+    @DisplayName("save(): 스냅샷 파일이 기준 크기를 넘으면 살아 있는 항목만 남도록 다시 쓴다.")
+    @Test
+    void snapshot_compactsAtThreshold() throws Exception {
+        // given
+        Path snapshot = directory.resolve("refresh-tokens.log");
+        RefreshTokenStoreProperties properties = properties(snapshot);
+        properties.setSnapshotCompactSize(DataSize.ofKilobytes(1));
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(properties);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            store.save(1L, "token." + i, Duration.ofMinutes(1));
+        }
+
+        // then
+        assertThat(Files.size(snapshot)).isLessThanOrEqualTo(1024);
+        assertThat(store.snapshotBytes()).isEqualTo(Files.size(snapshot));
+        store.destroy();
+        InMemoryRefreshTokenStore reopened = new InMemoryRefreshTokenStore(properties);
+        assertThat(reopened.findByRefreshToken("token.999")).isPresent();
+        assertThat(reopened.findByRefreshToken("token.998")).isEmpty();
+        reopened.destroy();
+    }
+
+    private static RefreshTokenStoreProperties properties(Path snapshot) {
+        RefreshTokenStoreProperties properties = new RefreshTokenStoreProperties();
+        properties.setType("memory");
+        properties.setTickDuration(Duration.ofMillis(10));
+        properties.setSnapshotPath(snapshot == null ? null : snapshot.toString());
+        return properties;
+    }
+}
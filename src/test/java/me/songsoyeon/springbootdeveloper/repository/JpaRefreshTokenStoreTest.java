@@ -0,0 +1,42 @@
+package me.songsoyeon.springbootdeveloper.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+
+class JpaRefreshTokenStoreTest {
+
+    /*
+    given : H2, MySQL 각각으로 보이는 JdbcTemplate
+    when : 리프레시 토큰 저장
+    then : 데이터베이스별 업서트 문장 하나만 실행하고, JPA 조회/저장은 하지 않는지 확인
+    */
+    @DisplayName("save(): H2와 MySQL에서는 업서트 한 문장으로 저장한다.")
+    @ParameterizedTest
+    @CsvSource({"H2, MERGE INTO refresh_token", "MySQL, INSERT INTO refresh_token"})
+    void save_singleUpsertStatement(String databaseProductName, String expectedSqlPrefix) {
+        // given
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        Mockito.when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(databaseProductName);
+        RefreshTokenRepository refreshTokenRepository = Mockito.mock(RefreshTokenRepository.class);
+        JpaRefreshTokenStore store = new JpaRefreshTokenStore(refreshTokenRepository, jdbcTemplate);
+
+        // when
+        store.save(1L, "refresh-token", Duration.ofDays(14));
+
+        // then
+        Mockito.verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+        Mockito.verify(jdbcTemplate).update(startsWith(expectedSqlPrefix), eq(1L), eq("refresh-token"));
+        Mockito.verifyNoMoreInteractions(jdbcTemplate);
+        Mockito.verifyNoInteractions(refreshTokenRepository);
+    }
+}
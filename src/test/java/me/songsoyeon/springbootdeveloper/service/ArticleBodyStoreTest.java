@@ -0,0 +1,244 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.ArticleBodyStoreProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleBodyStoreTest {
+
+    ArticleBodyStore store;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (store != null) {
+            store.destroy();
+        }
+    }
+
+    /*
+    given : 저장소를 켜고 한글 본문을 가진 글
+    when : 같은 글 본문을 두 번 응답
+    then : 두 번째는 DB 조회 없이 같은 UTF-8 바이트로 응답하고, 힙 절약량이 0보다 큰지 확인
+    */
+    @DisplayName("writeContent(): 보관된 본문은 DB 조회 없이 바이트 그대로 응답한다.")
+    @Test
+    void writeContent_hit() throws Exception {
+        // given
+        store = newStore("direct", DataSize.ofKilobytes(64), 2, null);
+        String content = "스프링 부트 본문 ".repeat(100);
+        AtomicInteger loads = new AtomicInteger();
+        LongFunction<Article> loader = id -> {
+            loads.incrementAndGet();
+            return article(content);
+        };
+
+        // when
+        MockHttpServletResponse first = write(1L, loader);
+        MockHttpServletResponse second = write(1L, loader);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second.getContentAsByteArray()).isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getContentType()).startsWith("text/plain");
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.bytes()).isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(store.heapSaved()).isPositive();
+    }
+
+    /*
+    given : 1KB 세그먼트 2개짜리 저장소
+    when : 400바이트 본문 10개를 차례로 보관
+    then : 링을 돌며 오래된 세그먼트의 본문은 지워지고, 최근 본문만 남아 바이트 그대로 응답하는지 확인
+    */
+    @DisplayName("writeContent(): 세그먼트가 다 차면 가장 오래된 세그먼트의 본문을 버린다.")
+    @Test
+    void writeContent_wrapsSegments() throws Exception {
+        // given
+        store = newStore("direct", DataSize.ofKilobytes(1), 2, null);
+        AtomicInteger loads = new AtomicInteger();
+        LongFunction<Article> loader = id -> {
+            loads.incrementAndGet();
+            return article(String.valueOf(id % 10).repeat(400));
+        };
+
+        // when
+        for (long id = 1; id <= 10; id++) {
+            write(id, loader);
+        }
+        int loadsAfterFill = loads.get();
+        MockHttpServletResponse latest = write(10L, loader);
+        MockHttpServletResponse oldest = write(1L, loader);
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(4);
+        assertThat(store.bytes()).isEqualTo(store.size() * 400L);
+        assertThat(latest.getContentAsString()).isEqualTo("0".repeat(400));
+        assertThat(oldest.getContentAsString()).isEqualTo("1".repeat(400));
+        // 10번은 보관된 본문, 1번은 다시 로드
+        assertThat(loads).hasValue(loadsAfterFill + 1);
+    }
+
+    /*
+    given : 메모리 매핑 저장소에 보관된 글
+    when : 글 수정 이벤트 발행 후 수정된 본문으로 다시 응답
+    then : 보관된 본문이 지워지고 새 본문으로 응답하는지 확인
+    */
+    @DisplayName("onArticleChanged(): 글이 수정되면 보관된 본문을 지운다.")
+    @Test
+    void onArticleChanged_removes(@TempDir Path directory) throws Exception {
+        // given
+        store = newStore("mapped", DataSize.ofKilobytes(64), 2, directory);
+        Map<Long, String> contents = new HashMap<>(Map.of(1L, "before"));
+        LongFunction<Article> loader = id -> article(contents.get(id));
+        write(1L, loader);
+
+        // when
+        contents.put(1L, "after");
+        store.onArticleChanged(ArticleChangedEvent.of(ArticleChangedEvent.Type.UPDATED, 1L));
+        MockHttpServletResponse response = write(1L, loader);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("after");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    /*
+    given : 1.5KB 안팎의 한글 본문 2천 개
+    when : 모두 저장소에 보관한 뒤 마지막 글을 다시 응답
+    then : 전부 보관되고, 다시 응답할 때 로더를 부르지 않고 원래 본문과 같은지 확인
+    */
+    @DisplayName("writeContent(): 여러 세그먼트에 나눠 보관한 본문도 바이트 그대로 응답한다.")
+    @Test
+    void writeContent_manyBodies() throws Exception {
+        // given
+        int count = 2_000;
+        store = newStore("direct", DataSize.ofMegabytes(1), 8, null);
+
+        // when
+        for (int i = 0; i < count; i++) {
+            write(i + 1, id -> article(content(id)));
+        }
+        MockHttpServletResponse response = write(count, id -> article("reloaded"));
+
+        // then
+        assertThat(store.size()).isEqualTo(count);
+        assertThat(response.getContentAsString()).isEqualTo(content(count));
+        assertThat(store.heapSaved()).isPositive();
+    }
+
+    // ./gradlew benchmark 로 실행. 본문 2만 개를 String으로 힙에 들고 있을 때와 저장소에 보관했을 때
+    // 할당을 일으키고 전체 GC를 돌린 뒤 힙 사용량, GC 횟수/시간을 표로 출력
+    @DisplayName("ArticleBodyStore: 본문을 힙 밖에 두었을 때 힙 사용량과 GC 시간을 String 캐시와 비교한다.")
+    @Tag("benchmark")
+    @Test
+    void benchmark_compareWithHeapStrings() throws Exception {
+        int count = 20_000;
+        store = newStore("direct", DataSize.ofMegabytes(16), 8, null);
+
+        Map<Long, String> heap = new HashMap<>();
+        Result heapResult = measure(() -> {
+            for (int i = 0; i < count; i++) {
+                heap.put((long) i + 1, content(i + 1));
+            }
+        });
+        heap.clear();
+        Result storeResult = measure(() -> {
+            for (int i = 0; i < count; i++) {
+                write(i + 1, id -> article(content(id)));
+            }
+        });
+
+        System.out.printf("%-8s %14s %10s %10s%n", "holder", "heap used", "gc count", "gc ms");
+        System.out.printf("%-8s %14d %10d %10d%n", "string", heapResult.heapUsed, heapResult.gcCount, heapResult.gcMillis);
+        System.out.printf("%-8s %14d %10d %10d%n", "store", storeResult.heapUsed, storeResult.gcCount, storeResult.gcMillis);
+        System.out.printf("off-heap bytes=%d, estimated heap saved=%d%n", store.bytes(), store.heapSaved());
+    }
+
+    // 매번 새 String을 만들어, 비교하는 두 방식 외에는 본문을 붙잡고 있지 않게 함
+    private static String content(long id) {
+        return ("글 " + id + " 본문입니다. 스프링 부트 블로그 성능 ").repeat(25);
+    }
+
+    // fill 후 짧게 사는 객체를 많이 할당하고 전체 GC를 돌려, 그 동안의 GC 횟수/시간과 남은 힙 사용량을 잼
+    private static Result measure(ThrowingRunnable fill) throws Exception {
+        System.gc();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        fill.run();
+        long sink = 0;
+        for (int i = 0; i < 200_000; i++) {
+            sink += new byte[1024].length;
+        }
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+        assertThat(sink).isPositive();
+        return new Result(heapUsed, gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private MockHttpServletResponse write(long id, LongFunction<Article> loader) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.writeContent(id, loader, response);
+        return response;
+    }
+
+    private static ArticleBodyStore newStore(String type, DataSize segmentSize, int segments, Path directory) {
+        ArticleBodyStoreProperties properties = new ArticleBodyStoreProperties();
+        properties.setEnabled(true);
+        properties.setType(type);
+        properties.setSegmentSize(segmentSize);
+        properties.setSegments(segments);
+        if (directory != null) {
+            properties.setDirectory(directory.toString());
+        }
+        return new ArticleBodyStore(properties, new SimpleMeterRegistry());
+    }
+
+    private static Article article(String content) {
+        return Article.builder()
+                .author("user")
+                .title("title")
+                .content(content)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record Result(long heapUsed, long gcCount, long gcMillis) {
+    }
+}
@@ -0,0 +1,188 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.ArticleResponseCacheProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ArticleResponseCacheTest {
+
+    @Autowired
+    ArticleResponseCache articleResponseCache;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    Article article;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("본문 ".repeat(80))
+                .build());
+        articleResponseCache.evict(article.getId());
+    }
+
+    /*
+    given : 저장된 글
+    when : 같은 글을 두 번 응답
+    then : 두 응답 본문이 같고, 캐시에 항목이 하나 생겼는지 확인
+    */
+    @DisplayName("writeJson(): 같은 버전의 글은 캐시에 담긴 바이트로 응답한다.")
+    @Test
+    void writeJson_reusesBytes() throws Exception {
+        // given
+        int sizeBefore = articleResponseCache.size();
+
+        // when
+        MockHttpServletResponse first = write(article, null);
+        MockHttpServletResponse second = write(article, null);
+
+        // then
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(articleResponseCache.size()).isEqualTo(sizeBefore + 1);
+        JsonNode body = objectMapper.readTree(second.getContentAsByteArray());
+        assertThat(body.get("title").asText()).isEqualTo("title");
+    }
+
+    /*
+    given : 캐시에 담긴 글
+    when : 글 수정 이벤트 발행 후 수정된 글로 다시 응답
+    then : 항목이 지워지고 새 내용으로 응답하는지 확인
+    */
+    @DisplayName("onArticleChanged(): 글이 수정되면 캐시에서 지운다.")
+    @Test
+    void onArticleChanged_evicts() throws Exception {
+        // given
+        write(article, null);
+        int cached = articleResponseCache.size();
+
+        // when
+        article.update("new title", "new content");
+        Article updated = blogRepository.saveAndFlush(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.of(ArticleChangedEvent.Type.UPDATED, article.getId()));
+        int afterEvict = articleResponseCache.size();
+        MockHttpServletResponse response = write(updated, null);
+
+        // then
+        assertThat(afterEvict).isEqualTo(cached - 1);
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("title").asText())
+                .isEqualTo("new title");
+    }
+
+    /*
+    given : 1KB 이상인 글
+    when : Accept-Encoding: gzip 요청으로 응답
+    then : Content-Encoding이 gzip이고, 풀면 압축하지 않은 응답과 같은지 확인
+    */
+    @DisplayName("writeJson(): gzip을 받는 요청에는 미리 압축한 본문으로 응답한다.")
+    @Test
+    void writeJson_gzip() throws Exception {
+        // when
+        MockHttpServletResponse plain = write(article, null);
+        MockHttpServletResponse gzipped = write(article, "gzip, deflate, br");
+
+        // then
+        assertThat(gzipped.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzipped.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(gzipped.getContentAsByteArray().length).isLessThan(plain.getContentAsByteArray().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getContentAsByteArray());
+        }
+    }
+
+    /*
+    given : 항목 4개까지만 담는 캐시와 글 16개
+    when : 스레드 8개가 글을 응답(put, 용량 초과 시 evictOne)하면서 수정 이벤트로 지우기(evict)를 동시에 반복
+    then : bytes()가 남아 있는 항목 크기의 합과 같고 항목 수 상한을 지키는지 확인
+    */
+    @DisplayName("bytes(): 같은 항목을 여러 스레드가 동시에 지워도 한 번만 뺀다.")
+    @Test
+    void bytes_consistentUnderConcurrentPutAndEvict() throws Exception {
+        // given
+        ArticleResponseCacheProperties properties = new ArticleResponseCacheProperties();
+        properties.setMaxEntries(4);
+        ArticleResponseCache cache = new ArticleResponseCache(objectMapper, properties, new SimpleMeterRegistry());
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            articles.add(blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("본문 ".repeat(100 + i * 20))
+                    .build()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2000; i++) {
+                    Article target = articles.get((seed * 7 + i) % articles.size());
+                    if (i % 3 == 0) {
+                        cache.evict(target.getId());
+                    } else {
+                        cache.writeJson(target, new MockHttpServletRequest(), new MockHttpServletResponse());
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(cache.bytes()).isEqualTo(cache.entryBytes());
+        assertThat(cache.size()).isLessThanOrEqualTo(4 + 8);
+    }
+
+    private MockHttpServletResponse write(Article article, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/" + article.getId());
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        articleResponseCache.writeJson(article, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,92 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.dto.UpdateArticleRequest;
+import me.songsoyeon.springbootdeveloper.event.ArticleEventLog;
+import me.songsoyeon.springbootdeveloper.event.ArticleEventRecord;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest
+class BlogServiceTest {
+
+    @TempDir
+    static Path eventLogDirectory;
+
+    // 이 테스트 컨텍스트만 임시 디렉터리에 이벤트 로그를 엶
+    @DynamicPropertySource
+    static void eventLog(DynamicPropertyRegistry registry) {
+        registry.add("article.event-log.enabled", () -> "true");
+        registry.add("article.event-log.directory", () -> eventLogDirectory.toString());
+    }
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleEventLog articleEventLog;
+
+    Article article;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("user", null, List.of()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /*
+    given : 저장된 글과 이벤트 로그의 현재 끝 위치
+    when : 제목 컬럼(255자)을 넘는 제목으로 수정한 뒤, 정상 제목으로 다시 수정
+    then : 실패한 수정은 로그에 남지 않고, 성공한 수정만 UPDATED로 한 건 기록되는지 확인
+    */
+    @DisplayName("update(): 커밋 전에 실패하는 수정은 이벤트 로그에 기록하지 않는다.")
+    @Test
+    void update_failedFlushLeavesNoEvent() {
+        // given
+        long endOffset = articleEventLog.endOffset();
+
+        // when
+        Throwable thrown = catchThrowable(() ->
+                blogService.update(article.getId(), new UpdateArticleRequest("t".repeat(300), "content")));
+        long afterFailure = articleEventLog.endOffset();
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "content"));
+
+        // then
+        assertThat(thrown).isNotNull();
+        assertThat(afterFailure).isEqualTo(endOffset);
+        assertThat(articleEventLog.read(endOffset, 10))
+                .extracting(ArticleEventRecord::getArticleId)
+                .containsExactly(article.getId());
+        assertThat(blogRepository.findById(article.getId()).orElseThrow().getTitle()).isEqualTo("new title");
+    }
+}
@@ -0,0 +1,56 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.config.jwt.TokenProvider;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// datagen 프로필로 띄우면 시작 시 DataGeneratorRunner가 데이터를 생성함
+@SpringBootTest(properties = {"datagen.users=50", "datagen.articles=5000", "datagen.batch-size=500"})
+@ActiveProfiles("datagen")
+class DataGeneratorTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    TokenProvider tokenProvider;
+
+    /*
+    given : 유저 50명, 글 5000개를 생성하도록 설정한 datagen 프로필로 애플리케이션 시작
+    when : 생성된 데이터 조회
+    then : 개수, 본문 길이, 리프레시 토큰 유효성, 이후 저장되는 글의 id를 확인
+    */
+    @DisplayName("generate(): 설정한 수만큼 유저, 글, 리프레시 토큰을 생성한다.")
+    @Test
+    void generate() {
+        // given, when
+        Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email LIKE 'datagen%'", Long.class);
+        Long articles = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article WHERE author LIKE 'datagen%'", Long.class);
+        Integer maxLength = jdbcTemplate.queryForObject("SELECT MAX(LENGTH(content)) FROM article", Integer.class);
+        String token = jdbcTemplate.queryForObject("SELECT refresh_token FROM refresh_token FETCH FIRST 1 ROWS ONLY",
+                String.class);
+        Long tokens = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token", Long.class);
+
+        // then
+        assertThat(users).isEqualTo(50);
+        assertThat(articles).isEqualTo(5000);
+        assertThat(maxLength).isLessThanOrEqualTo(255);
+        assertThat(tokens).isEqualTo(50);
+        assertThat(tokenProvider.validToken(token)).isTrue();
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM article", Long.class);
+        Article saved = blogRepository.save(Article.builder().title("new").content("new").author("new").build());
+        assertThat(saved.getId()).isGreaterThan(maxId);
+    }
+}
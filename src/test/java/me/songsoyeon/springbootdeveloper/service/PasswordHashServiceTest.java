@@ -0,0 +1,118 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.PasswordHashProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashServiceTest {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private PasswordHashService passwordHashService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        // 해싱을 release까지 붙잡아 두는 인코더 (cost 4로 실제 해싱은 빠르게)
+        BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHashService = new PasswordHashService(blockingEncoder, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHashService.shutdown();
+    }
+
+    /*
+    given : 해싱 스레드 1개, 대기열 1칸. 해싱 하나가 진행 중이고 하나는 대기열에서 기다림
+    when : 세 번째 encode() 호출
+    then : 요청 스레드를 붙잡지 않고 503으로 거절되고, 거절 수와 대기열/활성 스레드 게이지가 맞는지 확인
+    */
+    @DisplayName("encode(): 대기열이 가득 차면 503으로 바로 거절한다.")
+    @Test
+    void encode_queueFull() throws Exception {
+        // given
+        Future<String> first = callers.submit(() -> passwordHashService.encode("first"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> second = callers.submit(() -> passwordHashService.encode("second"));
+        waitUntil(() -> meterRegistry.get("user.password.hash.queue").gauge().value() == 1);
+
+        // when, then
+        assertThatThrownBy(() -> passwordHashService.encode("third"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(meterRegistry.get("user.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.password.hash.active").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).startsWith("$2a$");
+        assertThat(second.get(5, TimeUnit.SECONDS)).startsWith("$2a$");
+    }
+
+    /*
+    given : 해싱을 막지 않은 상태
+    when : encode() 두 번 호출
+    then : 해싱 시간 타이머에 두 번 기록되고, 끝난 뒤 대기열과 활성 스레드 게이지가 0인지 확인
+    */
+    @DisplayName("encode(): 해싱 시간과 대기열 길이를 지표로 남긴다.")
+    @Test
+    void encode_metrics() throws Exception {
+        // given
+        release.countDown();
+
+        // when
+        String hash = passwordHashService.encode("password");
+        passwordHashService.encode("password");
+
+        // then
+        assertThat(new BCryptPasswordEncoder().matches("password", hash)).isTrue();
+        assertThat(meterRegistry.get("user.password.hash").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.password.hash").timer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        waitUntil(() -> meterRegistry.get("user.password.hash.active").gauge().value() == 0);
+        assertThat(meterRegistry.get("user.password.hash.queue").gauge().value()).isZero();
+        assertThat(meterRegistry.get("user.password.hash.rejected").counter().count()).isZero();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
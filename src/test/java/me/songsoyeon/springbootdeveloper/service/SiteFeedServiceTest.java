@@ -0,0 +1,171 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.event.ArticleChangedEvent;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "site.base-url=https://blog.example.com/",
+        "site.sitemap-segment-size=3",
+        "site.rebuild-delay=1h"
+})
+@AutoConfigureMockMvc
+class SiteFeedServiceTest {
+
+    private static final Pattern SEGMENT_LOC = Pattern.compile("<loc>https://blog\\.example\\.com/sitemap-(\\d+)\\.xml</loc>");
+
+    @Autowired
+    SiteFeedService siteFeedService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    List<Article> articles;
+
+    @BeforeEach
+    void setUp() {
+        articles = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Article article = blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+            articles.add(article);
+            publish(ArticleChangedEvent.Type.CREATED, article.getId());
+        }
+        siteFeedService.rebuildDirty();
+    }
+
+    /*
+    given : 사이트맵 파일당 URL 3개, 글 5개 저장
+    when : /sitemap.xml과 그 목록에 있는 세그먼트 조회
+    then : sitemapindex가 되고, 각 세그먼트는 URL 3개 이하이며 저장한 글이 모두 lastmod와 함께 들어 있는지 확인
+    */
+    @DisplayName("sitemap(): URL 수가 파일 한도를 넘으면 세그먼트 목록(sitemapindex)을 만든다.")
+    @Test
+    void sitemap_segments() {
+        // when
+        String index = xml(siteFeedService.sitemap());
+        List<String> segments = new ArrayList<>();
+        Matcher matcher = SEGMENT_LOC.matcher(index);
+        while (matcher.find()) {
+            segments.add(xml(siteFeedService.sitemapSegment(Integer.parseInt(matcher.group(1)))));
+        }
+
+        // then
+        assertThat(index).contains("<sitemapindex");
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(segments).allSatisfy(segment ->
+                assertThat(segment.split("<url>", -1).length - 1).isLessThanOrEqualTo(3));
+        String all = String.join("", segments);
+        for (Article article : articles) {
+            assertThat(all).contains("<url><loc>https://blog.example.com/articles/" + article.getId() + "</loc><lastmod>");
+        }
+    }
+
+    /*
+    given : 사이트맵과 피드를 만들어 둔 상태
+    when : 글 하나 삭제, 하나 수정 후 변경 이벤트 반영
+    then : 삭제한 글은 사이트맵과 피드에서 빠지고, 수정한 글이 피드 맨 앞에 오는지 확인
+    */
+    @DisplayName("onArticleChanged(): 바뀐 글의 세그먼트와 피드를 다시 만든다.")
+    @Test
+    void onArticleChanged_rebuilds() {
+        // given
+        Article deleted = articles.get(0);
+        Article updated = articles.get(1);
+
+        // when
+        blogRepository.delete(deleted);
+        publish(ArticleChangedEvent.Type.DELETED, deleted.getId());
+        Article saved = blogRepository.findById(updated.getId()).orElseThrow();
+        saved.update("updated title", "updated content");
+        blogRepository.saveAndFlush(saved);
+        publish(ArticleChangedEvent.Type.UPDATED, updated.getId());
+        siteFeedService.rebuildDirty();
+
+        // then
+        String deletedUrl = "https://blog.example.com/articles/" + deleted.getId() + "<";
+        String segment = xml(siteFeedService.sitemapSegment((int) (deleted.getId() / 2)));
+        assertThat(segment == null ? "" : segment).doesNotContain(deletedUrl);
+        String feed = xml(siteFeedService.feed());
+        assertThat(feed).doesNotContain(deletedUrl);
+        assertThat(feed.indexOf("<entry>")).isLessThan(feed.indexOf("updated title"));
+        assertThat(feed.indexOf("updated title")).isLessThan(feed.indexOf("</entry>"));
+    }
+
+    /*
+    given : 피드를 만들어 둔 상태
+    when : Accept-Encoding: gzip으로 /feed.xml 조회 후, 받은 ETag로 gzip/비압축 요청을 각각 다시 조회
+    then : 미리 압축한 Atom 본문으로 응답하고, gzip 요청은 304, 비압축 요청은 다른 ETag로 200인지 확인
+    */
+    @DisplayName("GET /feed.xml: 미리 압축한 Atom 피드로 응답하고 같은 표현의 ETag면 304로 응답한다.")
+    @Test
+    void feed_gzipAndNotModified() throws Exception {
+        // when
+        MockHttpServletResponse first = mockMvc.perform(get("/feed.xml")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        // then
+        assertThat(first.getContentType()).startsWith("application/atom+xml");
+        assertThat(first.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .contains("<feed xmlns=\"http://www.w3.org/2005/Atom\">");
+        }
+        mockMvc.perform(get("/feed.xml")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        MockHttpServletResponse identity = mockMvc.perform(get("/feed.xml").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(etag).endsWith("-gzip\"");
+        mockMvc.perform(get("/feed.xml").header(HttpHeaders.IF_NONE_MATCH, identity.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    private void publish(ArticleChangedEvent.Type type, long articleId) {
+        eventPublisher.publishEvent(ArticleChangedEvent.of(type, articleId));
+    }
+
+    private static String xml(SiteFeedService.Document document) {
+        return document == null ? null : new String(document.body(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,203 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import me.songsoyeon.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+// 불러오기는 그 전에 발급된 액세스 토큰을 모두 폐기하므로 다른 테스트와 컨텍스트를 같이 쓰지 않음
+@SpringBootTest
+@DirtiesContext
+class SnapshotServiceTest {
+
+    private static final int ARTICLES = 50;
+    private static final String SELECT_ARTICLES =
+            "SELECT id, title, content, author, created_at, updated_at FROM article ORDER BY id";
+    private static final String SELECT_USERS = "SELECT id, email, password, nickname FROM users ORDER BY id";
+
+    @Autowired
+    SnapshotService snapshotService;
+
+    @Autowired
+    UserCache userCache;
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @TempDir
+    Path directory;
+
+    // 글은 엔티티를 하나씩 지우지 않고 한 번에 지움. 유저는 캐시 무효화를 위해 리포지토리로 지움
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+        jdbcTemplate.update("DELETE FROM token_revocation");
+        jdbcTemplate.update("DELETE FROM article");
+        userRepository.deleteAll();
+    }
+
+    /*
+    given : 글 50개와 유저 5명 저장
+    when : gzip 스냅샷으로 내보낸 뒤 기존 데이터를 지우고 다시 불러옴
+    then : 모든 행이 그대로이고, 새로 저장하는 글의 id가 불러온 id와 겹치지 않는지 확인
+    */
+    @DisplayName("export(), restore(): 글과 유저를 스냅샷으로 내보내고 그대로 불러온다.")
+    @Test
+    void exportAndRestore_roundTrip() {
+        // given
+        insertArticles(ARTICLES, "내용 ".repeat(50));
+        insertUsers(5);
+        List<Map<String, Object>> articles = jdbcTemplate.queryForList(SELECT_ARTICLES);
+        List<Map<String, Object>> users = jdbcTemplate.queryForList(SELECT_USERS);
+        Path snapshot = directory.resolve("articles.snap.gz");
+
+        // when
+        SnapshotService.Summary exported = snapshotService.export(snapshot);
+        SnapshotService.Summary restored = snapshotService.restore(snapshot, true);
+
+        // then
+        assertThat(exported.articles()).isEqualTo(ARTICLES);
+        assertThat(restored.articles()).isEqualTo(ARTICLES);
+        assertThat(restored.users()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList(SELECT_ARTICLES)).isEqualTo(articles);
+        assertThat(jdbcTemplate.queryForList(SELECT_USERS)).isEqualTo(users);
+
+        Article saved = blogRepository.save(Article.builder().title("new").content("new").author("new").build());
+        assertThat(saved.getId()).isGreaterThan(jdbcTemplate.queryForObject("SELECT MAX(id) FROM article "
+                + "WHERE title <> 'new'", Long.class));
+    }
+
+    /*
+    given : 글 하나를 스냅샷으로 내보낸 뒤 글 본문 부분의 바이트 하나를 바꿈
+    when : 손상된 스냅샷을 불러옴
+    then : 체크섬 오류가 나고 기존 데이터는 그대로 남는지 확인 (롤백)
+    */
+    @DisplayName("restore(): 체크섬이 맞지 않으면 아무것도 반영하지 않는다.")
+    @Test
+    void restore_rejectsCorruptedSnapshot() throws Exception {
+        // given
+        insertArticles(1, "x".repeat(200));
+        Path snapshot = directory.resolve("articles.snap");
+        snapshotService.export(snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[100] ^= 0x01;
+        Files.write(snapshot, bytes);
+
+        // when, then
+        assertThatThrownBy(() -> snapshotService.restore(snapshot, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("checksum");
+        assertThat(blogRepository.count()).isEqualTo(1);
+    }
+
+    /*
+    given : 유저 하나와 그 유저의 리프레시 토큰, 폐기 기록, 유저 캐시 항목을 두고 스냅샷으로 내보냄
+    when : 토큰 테이블이 남은 채로 그냥 불러오고, 다시 replace로 불러옴
+    then : 그냥 불러오기는 거부되고, replace는 토큰 테이블과 유저 캐시를 비우며 그 전에 발급된 토큰을 폐기하는지 확인
+    */
+    @DisplayName("restore(): 유저 id를 가리키던 토큰과 캐시를 함께 비운다.")
+    @Test
+    void restore_clearsTokensAndCaches() {
+        // given
+        insertUsers(1);
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users", Long.class);
+        Path snapshot = directory.resolve("users.snap");
+        snapshotService.export(snapshot);
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO refresh_token (user_id, refresh_token) VALUES (?, ?)", userId, "token");
+        tokenRevocationService.revokeAll(userId);
+        userCache.findById(userId, () -> Optional.of(new User(userId, "old@gmail.com", "old", "old")));
+        Date issuedBeforeRestore = new Date(System.currentTimeMillis() - 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Throwable rejected = catchThrowable(() -> snapshotService.restore(snapshot, false));
+        snapshotService.restore(snapshot, true);
+        Optional<User> cached = userCache.findById(userId, () -> {
+            loads.incrementAndGet();
+            return userRepository.findById(userId);
+        });
+
+        // then
+        assertThat(rejected).isInstanceOf(IllegalStateException.class).hasMessageContaining("not empty");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token_revocation", Long.class)).isZero();
+        assertThat(loads).hasValue(1);
+        assertThat(cached).map(User::getEmail).hasValue("user0@gmail.com");
+        assertThat(tokenRevocationService.isRevoked(userId + 1, issuedBeforeRestore)).isTrue();
+    }
+
+    // ./gradlew benchmark 로 실행. 글 100만 개를 내보내고 다시 불러오는 데 걸린 시간과 스냅샷 크기를 출력
+    @DisplayName("export(), restore(): 글 100만 개 스냅샷을 내보내고 불러오는 시간")
+    @Tag("benchmark")
+    @Test
+    void benchmark_roundTripMillionArticles() {
+        int count = 1_000_000;
+        insertArticles(count, "내용 ".repeat(10));
+        insertUsers(100);
+        Path snapshot = directory.resolve("articles.snap.gz");
+
+        SnapshotService.Summary exported = snapshotService.export(snapshot);
+        SnapshotService.Summary restored = snapshotService.restore(snapshot, true);
+
+        System.out.printf("snapshot: %d articles, %d bytes, export %dms, restore %dms%n",
+                exported.articles(), exported.bytes(), exported.elapsedMillis(), restored.elapsedMillis());
+        assertThat(restored.articles()).isEqualTo(count);
+        assertThat(blogRepository.count()).isEqualTo(count);
+    }
+
+    private void insertArticles(int count, String content) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"제목 " + i, content + i, "user" + (i % 100) + "@gmail.com", now, now});
+            if (rows.size() == 1000 || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO article (title, content, author, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private void insertUsers(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{"user" + i + "@gmail.com", "{bcrypt}hash", "닉네임" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, nickname) VALUES (?, ?, ?)", rows);
+    }
+}
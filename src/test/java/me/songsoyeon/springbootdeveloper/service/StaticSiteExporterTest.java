@@ -0,0 +1,164 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.config.StaticExportProperties;
+import me.songsoyeon.springbootdeveloper.domain.Article;
+import me.songsoyeon.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StaticSiteExporterTest {
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    StaticSiteExporter exporter;
+    List<Article> articles;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        articles = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            articles.add(blogRepository.save(Article.builder()
+                    .author("user")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build()));
+        }
+
+        StaticExportProperties properties = new StaticExportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setListPageSize(2);
+        properties.setThreads(2);
+        properties.setAppBaseUrl("https://app.example.com");
+        exporter = new StaticSiteExporter(blogRepository, transactionManager, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exporter.destroy();
+    }
+
+    /*
+    given : 글 3개, 목록 페이지당 2개
+    when : 처음 내보내기
+    then : 글 페이지 3개와 목록 페이지 2개를 렌더링하고, 링크가 정적 파일 경로로 바뀌었는지 확인
+    */
+    @DisplayName("export(): 글과 목록 화면을 정적 HTML로 내보낸다.")
+    @Test
+    void export_full() throws Exception {
+        // when
+        StaticSiteExporter.Result result = exporter.export();
+
+        // then
+        assertThat(result.rendered()).isEqualTo(5);
+        Article first = articles.get(0);
+        String articlePage = read("articles/" + first.getId() + ".html");
+        assertThat(articlePage).contains("title1", "content1", "src=\"/js/article.js\"",
+                "https://app.example.com/new-article?id=" + first.getId());
+        String index = read("articles/index.html");
+        assertThat(index).contains("href=\"/articles/" + first.getId() + ".html\"", "href=\"/articles/page/2.html\"");
+        assertThat(index).doesNotContain("title3");
+        assertThat(read("articles/page/2.html")).contains("title3", "href=\"/articles/index.html\"");
+        assertThat(directory.resolve("js/article.js")).exists();
+        assertThat(directory.resolve(StaticSiteExporter.MANIFEST)).exists();
+    }
+
+    /*
+    given : 한 번 내보낸 상태
+    when : 바뀐 것 없이 다시 내보내고, 글 하나 수정, 하나 삭제 후 다시 내보내기
+    then : 처음에는 아무것도 렌더링하지 않고, 다음에는 수정한 글 페이지와 영향받은 목록 페이지만 렌더링하며
+         삭제한 글 페이지는 지워지는지 확인
+    */
+    @DisplayName("export(): 매니페스트와 해시가 다른 페이지만 다시 렌더링한다.")
+    @Test
+    void export_incremental() throws Exception {
+        // given
+        exporter.export();
+
+        // when
+        StaticSiteExporter.Result unchanged = exporter.export();
+        Article updated = blogRepository.findById(articles.get(2).getId()).orElseThrow();
+        updated.update("updated title", "updated content");
+        blogRepository.saveAndFlush(updated);
+        Article deleted = articles.get(0);
+        blogRepository.delete(deleted);
+        StaticSiteExporter.Result changed = exporter.export();
+
+        // then
+        assertThat(unchanged.rendered()).isZero();
+        // 글 3 페이지, 목록 1페이지(글 2, 3), 사라진 목록 2페이지는 삭제
+        assertThat(changed.rendered()).isEqualTo(2);
+        assertThat(changed.deleted()).isEqualTo(2);
+        assertThat(changed.unchanged()).isEqualTo(1);
+        assertThat(directory.resolve("articles/" + deleted.getId() + ".html")).doesNotExist();
+        assertThat(directory.resolve("articles/page/2.html")).doesNotExist();
+        assertThat(read("articles/" + updated.getId() + ".html")).contains("updated title");
+        assertThat(read("articles/index.html")).contains("updated title").doesNotContain("title1");
+    }
+
+    /*
+    given : 한 번 내보낸 상태에서, 매니페스트의 article.js 해시를 옛 내용의 해시로 바꾸고 파일도 옛 내용으로 덮음,
+            token.js는 해시는 그대로 두고 파일만 덮음, 이제 클래스패스에 없는 js/removed.js를 매니페스트와 파일로 남김
+    when : 다시 내보내기
+    then : 해시가 다른 article.js만 다시 복사되고, 해시가 같은 token.js는 건드리지 않으며, 없어진 리소스는 지워지는지 확인
+    */
+    @DisplayName("export(): 내용 해시가 바뀐 정적 리소스만 다시 복사하고 없어진 리소스는 지운다.")
+    @Test
+    void export_changedAssets() throws Exception {
+        // given
+        exporter.export();
+        Path manifest = directory.resolve(StaticSiteExporter.MANIFEST);
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+            lines.add(line.startsWith(StaticSiteExporter.ASSET_PREFIX + "js/article.js\t")
+                    ? StaticSiteExporter.ASSET_PREFIX + "js/article.js\tstale"
+                    : line);
+        }
+        lines.add(StaticSiteExporter.ASSET_PREFIX + "js/removed.js\tstale");
+        Files.write(manifest, lines, StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("js/article.js"), "stale");
+        Files.writeString(directory.resolve("js/token.js"), "untouched");
+        Files.writeString(directory.resolve("js/removed.js"), "stale");
+
+        // when
+        StaticSiteExporter.Result result = exporter.export();
+
+        // then
+        assertThat(result.rendered()).isZero();
+        assertThat(result.copiedAssets()).isEqualTo(1);
+        try (InputStream in = getClass().getResourceAsStream("/static/js/article.js")) {
+            assertThat(Files.readAllBytes(directory.resolve("js/article.js"))).isEqualTo(in.readAllBytes());
+        }
+        assertThat(read("js/token.js")).isEqualTo("untouched");
+        assertThat(directory.resolve("js/removed.js")).doesNotExist();
+        assertThat(Files.readAllLines(manifest, StandardCharsets.UTF_8))
+                .noneMatch(line -> line.contains("js/removed.js") || line.endsWith("\tstale"));
+    }
+
+    private String read(String page) throws Exception {
+        return Files.readString(directory.resolve(page), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,111 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import me.songsoyeon.springbootdeveloper.domain.TokenRevocation;
+import me.songsoyeon.springbootdeveloper.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TokenRevocationServiceTest {
+
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+    @Autowired
+    TokenRevocationRepository tokenRevocationRepository;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationRepository.deleteAll();
+    }
+
+    /*
+    given : 유저 1의 액세스 토큰 폐기
+    when : 폐기 이전, 폐기와 같은 초, 폐기 다음 초에 발급된 토큰을 확인
+    then : 폐기 이전과 같은 초에 발급된 토큰은 폐기되고, 다음 초에 발급된 토큰만 유효한지 확인
+    */
+    @DisplayName("isRevoked(): 폐기 시각과 같은 초까지 발급된 토큰을 폐기된 것으로 본다.")
+    @Test
+    void isRevoked_sameSecond() {
+        // given
+        long before = System.currentTimeMillis();
+        tokenRevocationService.revokeAll(1L);
+        long revokedSecond = tokenRevocationRepository.findByUserId(1L).orElseThrow().getRevokedAt() / 1000 * 1000;
+
+        // when, then
+        assertThat(tokenRevocationService.isRevoked(1L, new Date(before - 60_000))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(1L, new Date(revokedSecond))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(1L, new Date(revokedSecond + 1000))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(2L, new Date(before - 60_000))).isFalse();
+    }
+
+    /*
+    given : 8개 스레드가 같은 유저를 동시에 로그아웃하도록 준비
+    when : 동시에 revokeAll() 호출
+    then : 유니크 키 충돌 없이 모두 끝나고 폐기 기록은 하나만 남는지 확인
+    */
+    @DisplayName("revokeAll(): 같은 유저의 동시 폐기도 기록 하나로 저장한다.")
+    @Test
+    void revokeAll_concurrent() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                tokenRevocationService.revokeAll(3L);
+                return null;
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        assertThat(tokenRevocationRepository.findAll())
+                .extracting(TokenRevocation::getUserId)
+                .containsExactly(3L);
+    }
+
+    /*
+    given : 100ms 뒤에 만료되는 폐기 기록을 DB에 저장하고 load()로 읽어 들임
+    when : 만료 시각이 지남
+    then : 더는 폐기로 판단하지 않고, 다음 load()에서 DB 기록도 지워지는지 확인
+    */
+    @DisplayName("isRevoked(): 만료된 폐기 기록은 무시하고 load() 때 지운다.")
+    @Test
+    void isRevoked_expired() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        tokenRevocationRepository.save(new TokenRevocation(4L, now, now + 100));
+        tokenRevocationService.load();
+        Date issuedAt = new Date(now - 60_000);
+        assertThat(tokenRevocationService.isRevoked(4L, issuedAt)).isTrue();
+
+        // when
+        Thread.sleep(200);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(4L, issuedAt)).isFalse();
+        tokenRevocationService.load();
+        assertThat(tokenRevocationRepository.findByUserId(4L)).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package me.songsoyeon.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.songsoyeon.springbootdeveloper.config.UserCacheProperties;
+import me.songsoyeon.springbootdeveloper.domain.User;
+import me.songsoyeon.springbootdeveloper.dto.AddUserRequest;
+import me.songsoyeon.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserCacheTest {
+
+    @Autowired
+    UserService userService;
+    @Autowired
+    UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    /*
+    given : 캐시에 들어간 유저
+    when : 같은 유저를 두 번 조회하고 첫 번째 결과의 닉네임을 바꿈
+    then : 조회마다 다른 인스턴스를 받고, 한쪽을 바꿔도 다른 조회 결과에는 영향이 없는지 확인
+    */
+    @DisplayName("findById(): 캐시 적중마다 공유하지 않는 새 User를 돌려준다.")
+    @Test
+    void findById_returnsCopies() {
+        // given
+        UserCache userCache = new UserCache(new UserCacheProperties(), new SimpleMeterRegistry());
+        User stored = new User(1L, "user@gmail.com", "hash", "nickname");
+        userCache.findById(1L, () -> Optional.of(stored));
+
+        // when
+        User first = userCache.findById(1L, Optional::empty).orElseThrow();
+        User second = userCache.findById(1L, Optional::empty).orElseThrow();
+        first.update("changed");
+
+        // then
+        assertThat(first).isNotSameAs(second).isNotSameAs(stored);
+        assertThat(second.getNickname()).isEqualTo("nickname");
+        assertThat(userCache.findByEmail("user@gmail.com", Optional::empty)).get()
+                .extracting(User::getId, User::getNickname)
+                .containsExactly(1L, "nickname");
+    }
+
+    /*
+    given : 빈 캐시
+    when : 같은 id를 세 번 조회 (미스 1번, 적중 2번)
+    then : loader는 한 번만 호출되고 hits, misses, hit.ratio, size 지표가 맞는지 확인
+    */
+    @DisplayName("findById(): 적중, 미스 수와 적중률을 지표로 남긴다.")
+    @Test
+    void findById_metrics() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserCache userCache = new UserCache(new UserCacheProperties(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            userCache.findById(1L, () -> {
+                loads.incrementAndGet();
+                return Optional.of(new User(1L, "user@gmail.com", "hash", "nickname"));
+            });
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.cache.hits").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.cache.misses").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("user.cache.hit.ratio").gauge().value()).isEqualTo(2.0 / 3);
+        assertThat(meterRegistry.get("user.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    /*
+    given : 이메일로 조회해 캐시에 들어간 유저
+    when : 리포지토리로 닉네임을 바꿔 저장
+    then : 엔티티 리스너가 캐시를 비워 다음 조회에서 바뀐 닉네임이 보이는지 확인
+    */
+    @DisplayName("findByEmail(): 유저가 수정되면 캐시를 무효화한다.")
+    @Test
+    void findByEmail_invalidatedOnUpdate() {
+        // given
+        User saved = userRepository.save(User.builder().email("user@gmail.com").nickname("before").build());
+        assertThat(userService.findByEmail("user@gmail.com").getNickname()).isEqualTo("before");
+
+        // when
+        User reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        userRepository.save(reloaded.update("after"));
+
+        // then
+        assertThat(userService.findByEmail("user@gmail.com").getNickname()).isEqualTo("after");
+        assertThat(userService.findById(saved.getId()).getNickname()).isEqualTo("after");
+    }
+
+    /*
+    given : 캐시에 들어간 유저를 삭제
+    when : 같은 이메일로 다시 회원 가입
+    then : 삭제/가입 시 캐시가 비워져 새 유저의 id로 조회되는지 확인
+    */
+    @DisplayName("findByEmail(): 삭제 후 같은 이메일로 가입하면 새 유저를 돌려준다.")
+    @Test
+    void findByEmail_invalidatedOnSignup() {
+        // given
+        User saved = userRepository.save(User.builder().email("user@gmail.com").build());
+        assertThat(userService.findByEmail("user@gmail.com").getId()).isEqualTo(saved.getId());
+        userRepository.deleteAll();
+
+        // when
+        AddUserRequest request = new AddUserRequest();
+        request.setEmail("user@gmail.com");
+        request.setPassword("password");
+        Long signedUp = userService.save(request);
+
+        // then
+        assertThat(signedUp).isNotEqualTo(saved.getId());
+        assertThat(userService.findByEmail("user@gmail.com").getId()).isEqualTo(signedUp);
+    }
+}
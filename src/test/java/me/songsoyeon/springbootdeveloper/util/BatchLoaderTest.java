@@ -0,0 +1,237 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLoaderTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 50;
+    private static final long QUERY_MILLIS = 1;
+
+    /*
+    given : 1ms 걸리는 IN 쿼리를 흉내 내는 batchFunction과 2ms window의 BatchLoader 준비
+    when : 64개 스레드가 서로 다른 id를 동시에 조회
+    then : 쿼리 수가 요청 수보다 크게 줄었는지, 모든 요청이 자기 id의 결과를 받았는지 확인
+    */
+    @DisplayName("load(): 동시에 들어온 서로 다른 id 조회를 적은 수의 IN 쿼리로 묶는다.")
+    @Test
+    void load_batchesConcurrentLookups() throws Exception {
+        // given
+        AtomicInteger queries = new AtomicInteger();
+
+        try (BatchLoader<Long, String> loader = new BatchLoader<>("test-batch", Duration.ofMillis(2), 100,
+                Duration.ofSeconds(5), 4, inQuery(queries))) {
+            // when
+            run(loader::load);
+
+            // then
+            int requests = THREADS * REQUESTS_PER_THREAD;
+            assertThat(queries.get()).isLessThan(requests / 4);
+            assertThat(loader.dispatchedBatches()).isEqualTo(queries.get());
+        }
+    }
+
+    /*
+    given : window가 timeout(1초)보다 긴 10초인 BatchLoader
+    when : 다른 조회가 없는 상태에서 한 스레드가 차례로 5번 조회
+    then : window를 기다리지 않고(기다렸다면 timeout) 조회마다 바로 쿼리 한 번씩 실행되는지 확인
+    */
+    @DisplayName("load(): 함께 묶을 조회가 없으면 window를 기다리지 않고 바로 조회한다.")
+    @Test
+    void load_idleDispatchesImmediately() {
+        // given
+        AtomicInteger queries = new AtomicInteger();
+
+        try (BatchLoader<Long, String> loader = new BatchLoader<>("test-batch", Duration.ofSeconds(10), 100,
+                Duration.ofSeconds(1), 1, inQuery(queries))) {
+            // when
+            for (long id = 1; id <= 5; id++) {
+                assertThat(loader.load(id)).isEqualTo("article-" + id);
+            }
+
+            // then
+            assertThat(queries.get()).isEqualTo(5);
+        }
+    }
+
+    /*
+    given : id 1 조회가 끝나지 않도록 붙잡아 둔 batchFunction
+    when : id 1 조회가 진행 중일 때 다른 스레드가 id 2, 3을 조회
+    then : 2, 3은 바로 보내지 않고 모았다가 쿼리 하나로 묶이는지 확인
+    */
+    @DisplayName("load(): 조회가 진행 중일 때 들어온 키는 모아서 한 번에 조회한다.")
+    @Test
+    void load_groupsKeysWhileQueryInFlight() throws Exception {
+        // given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+        Function<Collection<Long>, Map<Long, String>> inQuery = ids -> {
+            batches.add(Set.copyOf(ids));
+            if (ids.contains(1L)) {
+                firstStarted.countDown();
+                await(releaseFirst);
+            }
+            Map<Long, String> rows = new HashMap<>();
+            ids.forEach(id -> rows.put(id, "article-" + id));
+            return rows;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try (BatchLoader<Long, String> loader = new BatchLoader<>("test-batch", Duration.ofSeconds(1), 100,
+                Duration.ofSeconds(5), 2, inQuery)) {
+            Future<String> first = executor.submit(() -> loader.load(1L));
+            firstStarted.await();
+
+            // when
+            Future<String> second = executor.submit(() -> loader.load(2L));
+            Future<String> third = executor.submit(() -> loader.load(3L));
+            Thread.sleep(200); // 2, 3이 묶음에 들어갈 때까지 (window 1초 안)
+            releaseFirst.countDown();
+
+            // then
+            assertThat(first.get()).isEqualTo("article-1");
+            assertThat(second.get()).isEqualTo("article-2");
+            assertThat(third.get()).isEqualTo("article-3");
+            assertThat(batches).containsExactly(Set.of(1L), Set.of(2L, 3L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ./gradlew benchmark 로 실행. 묶지 않고 바로 조회했을 때와 쿼리 수, p99 지연 시간 비교
+    @DisplayName("load(): 바로 조회할 때와 쿼리 수, p99 지연 시간 비교")
+    @Tag("benchmark")
+    @Test
+    void benchmark_batchedVersusDirect() throws Exception {
+        AtomicInteger batchedQueries = new AtomicInteger();
+        AtomicInteger directQueries = new AtomicInteger();
+
+        try (BatchLoader<Long, String> loader = new BatchLoader<>("test-batch", Duration.ofMillis(2), 100,
+                Duration.ofSeconds(5), 4, inQuery(batchedQueries))) {
+            long[] batched = run(loader::load);
+            long[] direct = run(id -> {
+                directQueries.incrementAndGet();
+                sleep(QUERY_MILLIS);
+                return "article-" + id;
+            });
+
+            System.out.printf("batch loader: %d requests -> %d queries (direct: %d), p99 %.2fms (direct: %.2fms)%n",
+                    THREADS * REQUESTS_PER_THREAD, batchedQueries.get(), directQueries.get(),
+                    p99(batched) / 1e6, p99(direct) / 1e6);
+        }
+    }
+
+    /*
+    given : 일부 id만 존재하는 batchFunction
+    when : 중복과 없는 id가 섞인 목록으로 loadAll() 호출
+    then : 쿼리 한 번으로 요청 순서대로 있는 값만 반환되는지 확인
+    */
+    @DisplayName("loadAll(): 중복을 제거하고 요청 순서대로 있는 값만 돌려준다.")
+    @Test
+    void loadAll_keepsOrderAndSkipsMissing() {
+        // given
+        AtomicInteger queries = new AtomicInteger();
+        Function<Collection<Long>, Map<Long, String>> inQuery = ids -> {
+            queries.incrementAndGet();
+            Map<Long, String> rows = new HashMap<>();
+            ids.stream().filter(id -> id > 0).forEach(id -> rows.put(id, "article-" + id));
+            return rows;
+        };
+
+        try (BatchLoader<Long, String> loader = new BatchLoader<>("test-batch", Duration.ofMillis(1), 100,
+                Duration.ofSeconds(5), 1, inQuery)) {
+            // when
+            List<String> values = loader.loadAll(List.of(3L, -1L, 1L, 3L, 2L));
+
+            // then
+            assertThat(values).containsExactly("article-3", "article-1", "article-2");
+            assertThat(queries.get()).isEqualTo(1);
+        }
+    }
+
+    // 1ms 걸리는 IN 쿼리 흉내. 호출 수를 queries에 셈
+    private static Function<Collection<Long>, Map<Long, String>> inQuery(AtomicInteger queries) {
+        return ids -> {
+            queries.incrementAndGet();
+            sleep(QUERY_MILLIS);
+            Map<Long, String> rows = new HashMap<>();
+            ids.forEach(id -> rows.put(id, "article-" + id));
+            return rows;
+        };
+    }
+
+    // 스레드마다 서로 다른 id를 조회하고 요청별 지연 시간(ns)을 돌려줌
+    private static long[] run(Function<Long, String> lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long base = (long) t * REQUESTS_PER_THREAD;
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long id = base + i;
+                    long begin = System.nanoTime();
+                    assertThat(lookup.apply(id)).isEqualTo("article-" + id);
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        executor.shutdown();
+        return all;
+    }
+
+    private static long p99(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    /*
+    given : 한 칸 10ms, 4칸짜리 휠 (한 바퀴 40ms)
+    when : 바로 만료될 항목과 여러 바퀴 뒤(200ms)에 만료될 항목 등록
+    then : 앞의 항목만 먼저 만료되고, 뒤의 항목은 같은 버킷을 여러 번 지나도 마감 전에는 만료되지 않는지 확인
+    */
+    @DisplayName("schedule(): 마감이 지나면 만료하고, 다음 바퀴 이후의 항목은 남겨둔다.")
+    @Test
+    void schedule_expiresAfterDeadline() throws Exception {
+        // given
+        Set<String> expired = ConcurrentHashMap.newKeySet();
+        CountDownLatch lateExpired = new CountDownLatch(1);
+        try (HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 4, item -> {
+            expired.add(item);
+            if (item.equals("late")) {
+                lateExpired.countDown();
+            }
+        })) {
+            long now = System.currentTimeMillis();
+
+            // when
+            wheel.schedule("soon", now + 10);
+            long lateDeadline = now + 200;
+            wheel.schedule("late", lateDeadline);
+
+            // then
+            Thread.sleep(100);
+            assertThat(expired).containsExactly("soon");
+            assertThat(lateExpired.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(lateDeadline);
+        }
+    }
+
+    /*
+    given : 한 칸 1ms, 4칸짜리 휠
+    when : 여러 스레드가 ticker가 도는 동안 이미 지난 마감 시각으로 항목을 계속 등록
+    then : 처리 중인 버킷과 경합하더라도 빠지는 항목 없이 모두 만료되는지 확인
+    */
+    @DisplayName("schedule(): ticker와 경합해도 등록한 항목은 모두 만료된다.")
+    @Test
+    void schedule_racingTicker() throws Exception {
+        // given
+        int threads = 4;
+        int perThread = 5_000;
+        CountDownLatch expired = new CountDownLatch(threads * perThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(1), 4,
+                item -> expired.countDown())) {
+
+            // when
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        wheel.schedule(base + i, System.currentTimeMillis() - 1);
+                    }
+                });
+            }
+
+            // then
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
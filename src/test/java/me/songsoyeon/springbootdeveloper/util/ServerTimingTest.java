@@ -0,0 +1,95 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+    }
+
+    /*
+    given : 현재 스레드에서 기록 시작
+    when : DB 두 번, JSON 한 번 소요 시간 기록
+    then : 단계별 합계와 횟수가 헤더 값과 로그 문자열에 담기는지 확인
+    */
+    @DisplayName("toHeaderValue(): 기록한 단계만 밀리초 단위로 Server-Timing 헤더에 담는다.")
+    @Test
+    void toHeaderValue_containsRecordedPhases() {
+        // given
+        ServerTiming timing = ServerTiming.begin();
+
+        // when
+        timing.add(ServerTiming.Phase.DB, 1_500_000);
+        timing.add(ServerTiming.Phase.DB, 2_000_000);
+        timing.add(ServerTiming.Phase.JSON, 50_000);
+
+        // then
+        assertThat(timing.nanos(ServerTiming.Phase.DB)).isEqualTo(3_500_000);
+        assertThat(timing.count(ServerTiming.Phase.DB)).isEqualTo(2);
+        assertThat(timing.toHeaderValue())
+                .startsWith("db;dur=3.50, json;dur=0.05, total;dur=")
+                .doesNotContain("jwt", "view");
+        assertThat(timing.toString()).startsWith("db=3.50ms(2) json=0.05ms total=");
+    }
+
+    /*
+    given : 기록을 시작하지 않은 스레드
+    when : start()/stop()과 time() 호출
+    then : 아무것도 기록되지 않고 작업 결과는 그대로 반환되는지 확인
+    */
+    @DisplayName("start(): 기록 중이 아니면 시간을 재지 않는다.")
+    @Test
+    void start_isNoOpWhenNotRecording() {
+        // given
+        assertThat(ServerTiming.current()).isNull();
+
+        // when
+        long startedAt = ServerTiming.start();
+        ServerTiming.stop(ServerTiming.Phase.DB, startedAt);
+        String result = ServerTiming.time(ServerTiming.Phase.MAP, () -> "result");
+
+        // then
+        assertThat(startedAt).isZero();
+        assertThat(result).isEqualTo("result");
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    /*
+    given : 기록 시작
+    when : time()으로 작업 실행 후 end() 호출
+    then : 작업 시간이 기록되고, end() 이후에는 현재 스레드에서 분리되는지 확인
+    */
+    @DisplayName("time(): 작업 시간을 해당 단계에 더하고 end() 이후에는 기록하지 않는다.")
+    @Test
+    void time_recordsUntilEnd() throws Exception {
+        // given
+        ServerTiming timing = ServerTiming.begin();
+
+        // when
+        ServerTiming.time(ServerTiming.Phase.VIEW, () -> {
+            sleep(5);
+            return null;
+        });
+        ServerTiming.end();
+        ServerTiming.time(ServerTiming.Phase.VIEW, () -> null);
+
+        // then
+        assertThat(timing.count(ServerTiming.Phase.VIEW)).isEqualTo(1);
+        assertThat(timing.nanos(ServerTiming.Phase.VIEW)).isGreaterThanOrEqualTo(5_000_000);
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
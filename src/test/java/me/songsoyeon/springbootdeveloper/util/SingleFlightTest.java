@@ -0,0 +1,90 @@
+package me.songsoyeon.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    /*
+    given : 200개 스레드가 같은 id를 동시에 조회하도록 준비. 조회(loader)는 DB 조회처럼 100ms 걸림
+    when : 동시에 execute() 호출 (thundering herd)
+    then : loader 실행 횟수가 1회이고, 모든 스레드가 같은 결과를 받았는지 확인
+    */
+    @DisplayName("execute(): 같은 키의 동시 조회는 loader를 한 번만 실행한다.")
+    @Test
+    void execute_coalescesConcurrentLoads() throws Exception {
+        // given
+        int threads = 200;
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    sleep(100);
+                    return "article-1";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("article-1");
+        }
+        executor.shutdown();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    /*
+    given : 리더의 조회가 timeout보다 오래 걸림
+    when : 다른 스레드가 같은 키로 execute() 호출
+    then : 기다리던 스레드는 무한히 기다리지 않고 TimeoutException 발생
+    */
+    @DisplayName("execute(): 앞선 조회가 timeout을 넘기면 기다리던 요청은 예외로 끝난다.")
+    @Test
+    void execute_timeout() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Thread leader = new Thread(() -> singleFlight.execute(1L, () -> {
+            leaderStarted.countDown();
+            sleep(500);
+            return "slow";
+        }));
+        leader.start();
+        leaderStarted.await();
+
+        // when, then
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> "unused"))
+                .isInstanceOf(SingleFlight.TimeoutException.class);
+        leader.join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}